@@ -0,0 +1,108 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PasswordStrengthChecker#analyze(String)} against the bundled
+ * common-password dictionary for a range of password lengths and character
+ * class mixes. A pool of random passwords is cycled so that branch prediction
+ * and the dictionary lookup do not settle on a single input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AnalyzeBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    @Param({"8", "16", "64"})
+    public int length;
+
+    /** Character classes drawn from: l = lower, u = upper, d = digit, s = symbol, k = Hangul. */
+    @Param({"l", "ld", "luds", "ludsk"})
+    public String classes;
+
+    private PasswordStrengthChecker checker;
+    private PasswordStrengthChecker cachedChecker;
+    private GuessEstimator estimator;
+    private String[] passwords;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        PasswordDictionary dictionary = DictionaryLoader.loadCommonPasswordDictionary();
+        checker = new PasswordStrengthChecker(dictionary);
+        cachedChecker = new PasswordStrengthChecker(dictionary, new AnalysisCache(POOL_SIZE * 2, Duration.ZERO));
+        estimator = new GuessEstimator(dictionary);
+        String alphabet = alphabet(classes);
+        SplittableRandom random = new SplittableRandom(42);
+        passwords = new String[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            char[] chars = new char[length];
+            for (int j = 0; j < length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            passwords[i] = new String(chars);
+        }
+    }
+
+    @Benchmark
+    public PasswordStrengthChecker.Analysis analyze() {
+        String password = passwords[next];
+        next = (next + 1) & (POOL_SIZE - 1);
+        return checker.analyze(password);
+    }
+
+    /** Every password of the pool is a cache hit after the first round. */
+    @Benchmark
+    public PasswordStrengthChecker.Analysis analyzeCached() {
+        String password = passwords[next];
+        next = (next + 1) & (POOL_SIZE - 1);
+        return cachedChecker.analyze(password);
+    }
+
+    @Benchmark
+    public GuessEstimator.Estimate estimateGuesses() {
+        String password = passwords[next];
+        next = (next + 1) & (POOL_SIZE - 1);
+        return estimator.estimate(password);
+    }
+
+    @Benchmark
+    public PasswordStrengthChecker.Analysis analyzeCommon() {
+        next = (next + 1) & (POOL_SIZE - 1);
+        return checker.analyze((next & 1) == 0 ? "password" : "qwerty123");
+    }
+
+    private static String alphabet(String classes) {
+        StringBuilder alphabet = new StringBuilder();
+        for (char c : classes.toCharArray()) {
+            switch (c) {
+                case 'l' -> alphabet.append("abcdefghijklmnopqrstuvwxyz");
+                case 'u' -> alphabet.append("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+                case 'd' -> alphabet.append("0123456789");
+                case 's' -> alphabet.append("!@#$%^&*()-_=+[]{};:,.<>/?");
+                case 'k' -> alphabet.append("가나다라마바사아자차카타파하");
+                default -> throw new IllegalArgumentException("Unknown character class: " + c);
+            }
+        }
+        return alphabet.toString();
+    }
+}
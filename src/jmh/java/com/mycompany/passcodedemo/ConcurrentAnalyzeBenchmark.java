@@ -0,0 +1,111 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stress harness for one {@link PasswordStrengthChecker} shared by many
+ * threads. Every result is compared with the analysis computed
+ * single-threaded during setup, and the trial fails if any differs, so a
+ * run doubles as a check of the thread-safety contract.
+ *
+ * <p>Run with increasing {@code -t} values (or the default, one thread per
+ * core) and compare throughput to see how {@code analyze} scales:</p>
+ * <pre>
+ *   java -jar target/benchmarks.jar ConcurrentAnalyzeBenchmark -t 1
+ *   java -jar target/benchmarks.jar ConcurrentAnalyzeBenchmark -t 8
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ConcurrentAnalyzeBenchmark {
+
+    private static final int POOL_SIZE = 4096;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABC0123456789!@#$가나다";
+
+    private PasswordStrengthChecker checker;
+    private PasswordStrengthChecker cachedChecker;
+    private String[] passwords;
+    private PasswordStrengthChecker.Analysis[] expected;
+    private final AtomicLong mismatches = new AtomicLong();
+
+    /**
+     * Per-thread position in the shared pool, so threads do not contend on
+     * a cursor.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup
+        public void setUp() {
+            next = (int) (Thread.currentThread().threadId() * 7919) & (POOL_SIZE - 1);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        PasswordDictionary dictionary = DictionaryLoader.loadCommonPasswordDictionary();
+        checker = new PasswordStrengthChecker(dictionary);
+        cachedChecker = new PasswordStrengthChecker(dictionary, new AnalysisCache(POOL_SIZE * 2, Duration.ZERO));
+        SplittableRandom random = new SplittableRandom(7);
+        passwords = new String[POOL_SIZE];
+        expected = new PasswordStrengthChecker.Analysis[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            char[] chars = new char[6 + random.nextInt(14)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+            passwords[i] = new String(chars);
+            expected[i] = checker.analyze(passwords[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void verify() {
+        if (mismatches.get() != 0) {
+            throw new IllegalStateException(mismatches.get() + " concurrent analyses differed from the sequential result");
+        }
+    }
+
+    @Benchmark
+    public PasswordStrengthChecker.Analysis analyze(Cursor cursor) {
+        return check(checker, cursor);
+    }
+
+    @Benchmark
+    public PasswordStrengthChecker.Analysis analyzeCached(Cursor cursor) {
+        return check(cachedChecker, cursor);
+    }
+
+    private PasswordStrengthChecker.Analysis check(PasswordStrengthChecker target, Cursor cursor) {
+        int index = cursor.next;
+        cursor.next = (index + 1) & (POOL_SIZE - 1);
+        PasswordStrengthChecker.Analysis analysis = target.analyze(passwords[index]);
+        if (!analysis.equals(expected[index])) {
+            mismatches.incrementAndGet();
+        }
+        return analysis;
+    }
+}
@@ -0,0 +1,57 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading the bundled common-password list. The cold variants run a
+ * single invocation in a fresh JVM per fork, which is what application start-up
+ * pays; the warm variants measure the steady state once the JIT has settled.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DictionaryLoaderBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public Set<String> loadCommonPasswordsCold() throws IOException {
+        return DictionaryLoader.loadCommonPasswords();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(2)
+    public Set<String> loadCommonPasswordsWarm() throws IOException {
+        return DictionaryLoader.loadCommonPasswords();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public PasswordDictionary loadCommonPasswordDictionaryCold() throws IOException {
+        return DictionaryLoader.loadCommonPasswordDictionary();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(2)
+    public PasswordDictionary loadCommonPasswordDictionaryWarm() throws IOException {
+        return DictionaryLoader.loadCommonPasswordDictionary();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.passcodedemo;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the personal-information and sequential-digit detectors that run
+ * on every keystroke, for a password that matches nothing and one that
+ * matches several profile fields. Compiling the profile is measured
+ * separately because it happens once per registration, not per keystroke.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WarningDetectorBenchmark {
+
+    @Param({"Tr0ub4dor&3horse!", "minsu.kim1995-0412", "a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6"})
+    public String password;
+
+    private UserProfile profile;
+    private PersonalInfoMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        profile = new UserProfile("Minsu Kim", "minsu.kim77@example.com", LocalDate.of(1995, 4, 12));
+        matcher = PersonalInfoMatcher.compile(profile);
+    }
+
+    @Benchmark
+    public PersonalInfoMatcher compileProfile() {
+        return PersonalInfoMatcher.compile(profile);
+    }
+
+    @Benchmark
+    public List<PersonalInfoMatcher.Warning> matchPersonalInfo() {
+        return matcher.match(password);
+    }
+
+    @Benchmark
+    public List<PatternDetector.Kind> detectPatterns() {
+        return PatternDetector.detect(password);
+    }
+
+    @Benchmark
+    public boolean containsSequentialDigits() {
+        return PatternDetector.containsSequentialDigits(password, PatternDetector.MIN_SEQUENCE_LENGTH);
+    }
+
+    @Benchmark
+    public boolean containsKeyboardWalk() {
+        return PatternDetector.containsKeyboardWalk(password, PatternDetector.MIN_WALK_LENGTH);
+    }
+}
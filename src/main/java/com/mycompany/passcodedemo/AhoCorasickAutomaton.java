@@ -0,0 +1,330 @@
+package com.mycompany.passcodedemo;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multi-pattern substring matcher that finds every occurrence of a fixed set
+ * of patterns in one left-to-right scan of the text, however many patterns
+ * there are.
+ *
+ * <p>All state lives in primitive arrays with states numbered in
+ * breadth-first order, so the shallow states that most scans stay in are
+ * packed together. Small pattern sets are compiled into a dense transition
+ * table over the characters that occur in the patterns, with failure
+ * transitions folded in, making a scan one array lookup per character. Large
+ * sets such as a whole password dictionary keep only the trie edges, sorted
+ * per state, plus failure links; a scan is then still linear in the text
+ * length. Scanning allocates nothing. Instances are immutable and safe to
+ * share between threads.</p>
+ */
+public final class AhoCorasickAutomaton {
+
+    /**
+     * Receives matches reported by {@link #forEachMatch}.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * Called for every occurrence of a pattern.
+         *
+         * @param pattern index of the pattern in the compiled list
+         * @param end     index just past the last matched character
+         */
+        void accept(int pattern, int end);
+    }
+
+    /** Largest dense transition table, in entries, before falling back to sparse edges. */
+    private static final int DENSE_TABLE_LIMIT = 1 << 18;
+
+    private final boolean ignoreCase;
+    private final int[] patternLengths;
+    private final int[] outputOffsets;
+    private final int[] outputs;
+
+    // Dense layout; transitions is null when the sparse layout is used.
+    /** Distinct (folded) pattern characters, sorted; column {@code i + 1} of the table. */
+    private final char[] symbols;
+    /** Table column of every ASCII character, 0 when it occurs in no pattern. */
+    private final int[] asciiColumns;
+    private final int columns;
+    private final int[] transitions;
+
+    // Sparse layout.
+    private final int[] edgeOffsets;
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+    private final int[] failure;
+
+    private AhoCorasickAutomaton(boolean ignoreCase, int[] patternLengths, int[] outputOffsets, int[] outputs,
+            char[] symbols, int[] asciiColumns, int[] transitions,
+            int[] edgeOffsets, char[] edgeLabels, int[] edgeTargets, int[] failure) {
+        this.ignoreCase = ignoreCase;
+        this.patternLengths = patternLengths;
+        this.outputOffsets = outputOffsets;
+        this.outputs = outputs;
+        this.symbols = symbols;
+        this.asciiColumns = asciiColumns;
+        this.columns = symbols.length + 1;
+        this.transitions = transitions;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+    }
+
+    /**
+     * Compiles {@code patterns} into an automaton. Pattern indexes reported
+     * while scanning are positions in this list; duplicate patterns are
+     * allowed and each is reported.
+     *
+     * @param ignoreCase fold both patterns and text with
+     *                   {@link Character#toLowerCase(char)} before comparing
+     * @throws IllegalArgumentException when a pattern is empty or the
+     *                                  patterns are too long in total
+     */
+    public static AhoCorasickAutomaton compile(List<? extends CharSequence> patterns, boolean ignoreCase) {
+        int patternCount = patterns.size();
+        int[] patternLengths = new int[patternCount];
+        long totalLength = 0;
+        for (int p = 0; p < patternCount; p++) {
+            int length = patterns.get(p).length();
+            if (length == 0) {
+                throw new IllegalArgumentException("Empty pattern at index " + p);
+            }
+            patternLengths[p] = length;
+            totalLength += length;
+        }
+        if (totalLength >= Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Patterns are too long in total: " + totalLength + " characters");
+        }
+
+        // Trie with first-child / next-sibling links; state 0 is the root.
+        int capacity = (int) Math.min(totalLength + 1, 1024);
+        int[] firstChild = filled(capacity);
+        int[] nextSibling = filled(capacity);
+        char[] labels = new char[capacity];
+        int[] firstOutput = filled(capacity);
+        int[] nextOutput = new int[patternCount];
+        int states = 1;
+        for (int p = 0; p < patternCount; p++) {
+            CharSequence pattern = patterns.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = fold(pattern.charAt(i), ignoreCase);
+                int child = childOf(firstChild, nextSibling, labels, state, c);
+                if (child < 0) {
+                    if (states == firstChild.length) {
+                        int grown = (int) Math.min(totalLength + 1, (long) states * 2);
+                        firstChild = grow(firstChild, grown);
+                        nextSibling = grow(nextSibling, grown);
+                        firstOutput = grow(firstOutput, grown);
+                        labels = Arrays.copyOf(labels, grown);
+                    }
+                    child = states++;
+                    labels[child] = c;
+                    nextSibling[child] = firstChild[state];
+                    firstChild[state] = child;
+                }
+                state = child;
+            }
+            nextOutput[p] = firstOutput[state];
+            firstOutput[state] = p;
+        }
+
+        // Breadth-first numbering and failure links.
+        int[] order = new int[states];
+        int[] renumbered = new int[states];
+        int[] failure = new int[states];
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int state = order[head];
+            renumbered[state] = head;
+            for (int child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+                int fallback = 0;
+                if (state != 0) {
+                    int f = failure[state];
+                    int next;
+                    while ((next = childOf(firstChild, nextSibling, labels, f, labels[child])) < 0 && f != 0) {
+                        f = failure[f];
+                    }
+                    fallback = Math.max(next, 0);
+                }
+                failure[child] = fallback;
+                order[tail++] = child;
+            }
+        }
+
+        // Sorted edge lists, outputs including those reachable through failure links.
+        int[] edgeOffsets = new int[states + 1];
+        char[] edgeLabels = new char[states - 1];
+        int[] edgeTargets = new int[states - 1];
+        int[] outputCounts = new int[states];
+        int[] newFailure = new int[states];
+        int edge = 0;
+        for (int id = 0; id < states; id++) {
+            int state = order[id];
+            edgeOffsets[id] = edge;
+            for (int child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+                // Insertion sort by label; states have few children.
+                int at = edge++;
+                while (at > edgeOffsets[id] && edgeLabels[at - 1] > labels[child]) {
+                    edgeLabels[at] = edgeLabels[at - 1];
+                    edgeTargets[at] = edgeTargets[at - 1];
+                    at--;
+                }
+                edgeLabels[at] = labels[child];
+                edgeTargets[at] = renumbered[child];
+            }
+            newFailure[id] = renumbered[failure[state]];
+            int own = 0;
+            for (int p = firstOutput[state]; p >= 0; p = nextOutput[p]) {
+                own++;
+            }
+            outputCounts[id] = own + (id == 0 ? 0 : outputCounts[newFailure[id]]);
+        }
+        edgeOffsets[states] = edge;
+
+        int[] outputOffsets = new int[states + 1];
+        for (int id = 0; id < states; id++) {
+            outputOffsets[id + 1] = outputOffsets[id] + outputCounts[id];
+        }
+        int[] outputs = new int[outputOffsets[states]];
+        for (int id = 0; id < states; id++) {
+            int at = outputOffsets[id];
+            for (int p = firstOutput[order[id]]; p >= 0; p = nextOutput[p]) {
+                outputs[at++] = p;
+            }
+            if (id != 0) {
+                int inherited = newFailure[id];
+                System.arraycopy(outputs, outputOffsets[inherited], outputs, at, outputCounts[inherited]);
+            }
+        }
+
+        char[] symbols = distinct(edgeLabels);
+        if ((long) states * (symbols.length + 1) > DENSE_TABLE_LIMIT) {
+            return new AhoCorasickAutomaton(ignoreCase, patternLengths, outputOffsets, outputs,
+                    new char[0], null, null, edgeOffsets, edgeLabels, edgeTargets, newFailure);
+        }
+
+        int[] asciiColumns = new int[128];
+        for (int i = 0; i < symbols.length && symbols[i] < 128; i++) {
+            asciiColumns[symbols[i]] = i + 1;
+        }
+        int columns = symbols.length + 1;
+        int[] table = new int[states * columns];
+        for (int id = 0; id < states; id++) {
+            int base = id * columns;
+            if (id != 0) {
+                // Failure states are shallower, so their rows are already complete.
+                System.arraycopy(table, newFailure[id] * columns, table, base, columns);
+            }
+            for (int e = edgeOffsets[id]; e < edgeOffsets[id + 1]; e++) {
+                table[base + Arrays.binarySearch(symbols, edgeLabels[e]) + 1] = edgeTargets[e];
+            }
+        }
+        return new AhoCorasickAutomaton(ignoreCase, patternLengths, outputOffsets, outputs,
+                symbols, asciiColumns, table, null, null, null, null);
+    }
+
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    public int patternLength(int pattern) {
+        return patternLengths[pattern];
+    }
+
+    /**
+     * Reports every pattern occurrence in {@code text}, in order of their end
+     * positions.
+     */
+    public void forEachMatch(CharSequence text, MatchConsumer consumer) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (int o = outputOffsets[state], end = outputOffsets[state + 1]; o < end; o++) {
+                consumer.accept(outputs[o], i + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns whether any pattern occurs in {@code text}, stopping at the
+     * first match.
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (outputOffsets[state] != outputOffsets[state + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int step(int state, char c) {
+        c = fold(c, ignoreCase);
+        if (transitions != null) {
+            int column;
+            if (c < 128) {
+                column = asciiColumns[c];
+            } else {
+                int index = Arrays.binarySearch(symbols, c);
+                column = index < 0 ? 0 : index + 1;
+            }
+            return transitions[state * columns + column];
+        }
+        while (true) {
+            int from = edgeOffsets[state];
+            int index = Arrays.binarySearch(edgeLabels, from, edgeOffsets[state + 1], c);
+            if (index >= 0) {
+                return edgeTargets[index];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failure[state];
+        }
+    }
+
+    private static int childOf(int[] firstChild, int[] nextSibling, char[] labels, int state, char c) {
+        for (int child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+            if (labels[child] == c) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    private static char fold(char c, boolean ignoreCase) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private static int[] filled(int length) {
+        int[] array = new int[length];
+        Arrays.fill(array, -1);
+        return array;
+    }
+
+    private static int[] grow(int[] array, int length) {
+        int previous = array.length;
+        int[] grown = Arrays.copyOf(array, length);
+        Arrays.fill(grown, previous, length, -1);
+        return grown;
+    }
+
+    private static char[] distinct(char[] values) {
+        char[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+}
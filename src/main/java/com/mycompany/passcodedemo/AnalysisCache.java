@@ -0,0 +1,251 @@
+package com.mycompany.passcodedemo;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of {@link PasswordStrengthChecker.Analysis} results, so that
+ * retyped passwords and duplicates in a batch audit are scored only once.
+ *
+ * <p>Passwords are never stored. Entries are keyed by a SHA-256 digest of a
+ * random per-process salt, the dictionary generation and the password's
+ * UTF-16 units; analyses made while the dictionary was still loading are not
+ * cached at all. The cache is split into independently locked stripes, each
+ * evicting its least recently used entry when full, and entries expire after
+ * a fixed time to live. Instances are thread-safe, but every lookup locks a
+ * stripe, so the server and the batch auditor only use a cache when
+ * {@value #SIZE_PROPERTY} asks for one.</p>
+ */
+public final class AnalysisCache {
+
+    /** System property with the maximum number of cached analyses; 0 disables caching. */
+    public static final String SIZE_PROPERTY = "passcode.cache.size";
+    /** System property with the time to live of a cached analysis in seconds; 0 means no expiry. */
+    public static final String TTL_PROPERTY = "passcode.cache.ttl";
+
+    private static final int DEFAULT_SIZE = 10_000;
+    private static final long DEFAULT_TTL_SECONDS = 600;
+    private static final int MAX_STRIPES = 16;
+    private static final int DIGEST_BLOCK = 64;
+
+    /**
+     * SHA-256 already fed the random per-process salt. It is never updated
+     * again, only cloned once per key, so threads share it without locking
+     * and a short-lived virtual thread does not look up a provider of its own.
+     */
+    private static final MessageDigest SALTED_DIGEST;
+
+    static {
+        byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        try {
+            SALTED_DIGEST = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        SALTED_DIGEST.update(salt);
+    }
+
+    /**
+     * Point-in-time counters. {@code evictions} includes expired entries.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding up to {@code maximumSize} analyses for
+     * {@code timeToLive} each; a zero size disables caching and a zero
+     * duration disables expiry.
+     */
+    public AnalysisCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+        }
+        if (timeToLive == null || timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must not be negative: " + timeToLive);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = timeToLive.isZero() ? 0 : timeToLive.toNanos();
+        int stripeCount = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, maximumSize / 64))));
+        int perStripe = (maximumSize + stripeCount - 1) / stripeCount;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Creates a cache sized by the {@value #SIZE_PROPERTY} and
+     * {@value #TTL_PROPERTY} system properties, or returns {@code null} when
+     * {@value #SIZE_PROPERTY} is 0.
+     */
+    public static AnalysisCache fromSystemProperties() {
+        return fromSystemProperties(DEFAULT_SIZE);
+    }
+
+    /**
+     * Like {@link #fromSystemProperties()}, but holding {@code defaultSize}
+     * analyses when {@value #SIZE_PROPERTY} is not set; 0 makes the cache
+     * opt-in. Returns {@code null} when caching is disabled, so that callers
+     * hand the checker no cache at all rather than one that only counts.
+     */
+    public static AnalysisCache fromSystemProperties(int defaultSize) {
+        int size = Integer.getInteger(SIZE_PROPERTY, defaultSize);
+        if (size == 0) {
+            return null;
+        }
+        long ttlSeconds = Long.getLong(TTL_PROPERTY, DEFAULT_TTL_SECONDS);
+        return new AnalysisCache(size, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * Returns the cached analysis of {@code password} under dictionary
+     * {@code generation}, computing and caching it on a miss. Concurrent
+     * misses for the same password may both compute; the last result wins.
+     */
+    public PasswordStrengthChecker.Analysis get(CharSequence password, long generation,
+            Function<CharSequence, PasswordStrengthChecker.Analysis> analyzer) {
+        if (maximumSize == 0) {
+            return analyzer.apply(password);
+        }
+        Key key = key(password, generation);
+        Stripe stripe = stripes[(int) key.low & (stripes.length - 1)];
+        long now = ttlNanos == 0 ? 0 : System.nanoTime();
+        PasswordStrengthChecker.Analysis cached = stripe.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        PasswordStrengthChecker.Analysis analysis = analyzer.apply(password);
+        if (!analysis.dictionaryPending()) {
+            stripe.put(key, analysis, ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos);
+        }
+        return analysis;
+    }
+
+    /**
+     * Removes every cached analysis; the counters are kept.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Digests the salt, {@code generation} and {@code password} from a clone
+     * of {@link #SALTED_DIGEST}, wiping the scratch block afterwards.
+     */
+    private static Key key(CharSequence password, long generation) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) SALTED_DIGEST.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", ex);
+        }
+        byte[] block = new byte[DIGEST_BLOCK];
+        ByteBuffer.wrap(block, 0, Long.BYTES).putLong(generation);
+        digest.update(block, 0, Long.BYTES);
+        int used = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            block[used++] = (byte) (c >>> 8);
+            block[used++] = (byte) c;
+            if (used == DIGEST_BLOCK) {
+                digest.update(block, 0, used);
+                used = 0;
+            }
+        }
+        digest.update(block, 0, used);
+        Arrays.fill(block, (byte) 0);
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new Key(hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * 128 bits of the salted digest.
+     */
+    private record Key(long high, long low) {
+    }
+
+    private record Entry(PasswordStrengthChecker.Analysis analysis, long expiresAt) {
+    }
+
+    /**
+     * Access-ordered map guarded by its own monitor.
+     */
+    private final class Stripe {
+        private final LinkedHashMap<Key, Entry> entries;
+
+        Stripe(int capacity) {
+            entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized PasswordStrengthChecker.Analysis get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() != 0 && now - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.analysis();
+        }
+
+        synchronized void put(Key key, PasswordStrengthChecker.Analysis analysis, long expiresAt) {
+            entries.put(key, new Entry(analysis, expiresAt));
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
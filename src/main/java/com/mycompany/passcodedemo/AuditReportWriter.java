@@ -0,0 +1,296 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming {@link BatchAuditor.ResultSink} that writes one report row per
+ * password and keeps the aggregates of the whole run as it goes.
+ *
+ * <p>Every value in a row is ASCII (numbers, flags and enum constant names),
+ * so rows are encoded straight into a reused {@value #BUFFER_SIZE}-byte
+ * buffer and written to a {@link FileChannel} without building strings.
+ * The aggregates are a handful of counters, so memory stays constant no
+ * matter how many rows are written and {@link #summary()} is available as
+ * soon as the last row has been accepted.</p>
+ *
+ * <p>Like every result sink this class is confined to the auditing thread
+ * and is not thread-safe.</p>
+ */
+public final class AuditReportWriter implements BatchAuditor.ResultSink, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Longest possible row, so that a row never straddles a flush. */
+    private static final int MAX_ROW_BYTES = 512;
+    private static final byte[][] STRENGTH_NAMES = asciiNames(PasswordStrengthChecker.Strength.values());
+    private static final byte[][] SUGGESTION_NAMES = asciiNames(PasswordStrengthChecker.Suggestion.values());
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Format format;
+
+    private long rows;
+    private final long[] strengthCounts = new long[PasswordStrengthChecker.Strength.values().length];
+    private final long[] suggestionCounts = new long[PasswordStrengthChecker.Suggestion.values().length];
+    private long commonCount;
+    private long containsCommonWordCount;
+    private long scoreTotal;
+    private double guessesLog10Total;
+
+    /**
+     * Report row layouts.
+     */
+    public enum Format {
+        /**
+         * {@code line,STRENGTH,score,common(0|1),containsCommonWord(0|1),guessesLog10,CODE|CODE...}
+         * without a header row.
+         */
+        CSV,
+        /** One JSON object per line with the same fields. */
+        JSONL;
+
+        /**
+         * Picks the format from the file name: {@code .jsonl} and
+         * {@code .ndjson} are JSONL, anything else CSV.
+         */
+        public static Format forFile(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            return name.endsWith(".jsonl") || name.endsWith(".ndjson") ? JSONL : CSV;
+        }
+    }
+
+    /**
+     * Aggregates of a report. {@code strengths} is in {@link
+     * PasswordStrengthChecker.Strength} order; {@code failingRules} holds the
+     * suggestions that were made at least once, most frequent first.
+     */
+    public record Summary(long rows, Map<PasswordStrengthChecker.Strength, Long> strengths,
+            Map<PasswordStrengthChecker.Suggestion, Long> failingRules, long common, long containsCommonWord,
+            double meanScore, double meanGuessesLog10) {
+
+        public double percentCommon() {
+            return rows == 0 ? 0 : common * 100.0 / rows;
+        }
+
+        /**
+         * Returns the {@code limit} most frequent suggestions.
+         */
+        public List<PasswordStrengthChecker.Suggestion> topFailingRules(int limit) {
+            List<PasswordStrengthChecker.Suggestion> rules = new ArrayList<>(failingRules.keySet());
+            return rules.subList(0, Math.min(limit, rules.size()));
+        }
+
+        public String toJson() {
+            StringBuilder json = new StringBuilder(256).append("{\"rows\":").append(rows).append(",\"strengths\":{");
+            appendCounts(json, strengths);
+            json.append("},\"failingRules\":{");
+            appendCounts(json, failingRules);
+            return json.append("},\"common\":").append(common)
+                    .append(",\"percentCommon\":").append(round(percentCommon()))
+                    .append(",\"containsCommonWord\":").append(containsCommonWord)
+                    .append(",\"meanScore\":").append(round(meanScore))
+                    .append(",\"meanGuessesLog10\":").append(round(meanGuessesLog10))
+                    .append('}').toString();
+        }
+
+        private static void appendCounts(StringBuilder json, Map<? extends Enum<?>, Long> counts) {
+            boolean first = true;
+            for (Map.Entry<? extends Enum<?>, Long> entry : counts.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                Json.quote(json, entry.getKey().name()).append(':').append(entry.getValue());
+            }
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+
+    private AuditReportWriter(FileChannel channel, Format format) {
+        this.channel = channel;
+        this.format = format;
+    }
+
+    /**
+     * Creates or truncates {@code output} and returns a writer for it.
+     *
+     * @throws IOException when the file cannot be opened
+     */
+    public static AuditReportWriter open(Path output, Format format) throws IOException {
+        if (format == null) {
+            throw new IllegalArgumentException("format must not be null");
+        }
+        return new AuditReportWriter(FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), format);
+    }
+
+    @Override
+    public void accept(long lineNumber, PasswordStrengthChecker.Analysis analysis) throws IOException {
+        if (buffer.remaining() < MAX_ROW_BYTES) {
+            flush();
+        }
+        if (format == Format.CSV) {
+            writeCsv(lineNumber, analysis);
+        } else {
+            writeJson(lineNumber, analysis);
+        }
+
+        rows++;
+        strengthCounts[analysis.strength().ordinal()]++;
+        for (int mask = analysis.suggestionMask(); mask != 0; mask &= mask - 1) {
+            suggestionCounts[Integer.numberOfTrailingZeros(mask)]++;
+        }
+        if (analysis.isCommonPassword()) {
+            commonCount++;
+        }
+        if (analysis.containsCommonWord()) {
+            containsCommonWordCount++;
+        }
+        scoreTotal += analysis.score();
+        guessesLog10Total += analysis.guessesLog10();
+    }
+
+    private void writeCsv(long lineNumber, PasswordStrengthChecker.Analysis analysis) {
+        putLong(lineNumber);
+        buffer.put((byte) ',').put(STRENGTH_NAMES[analysis.strength().ordinal()]).put((byte) ',');
+        putLong(analysis.score());
+        buffer.put((byte) ',').put((byte) (analysis.isCommonPassword() ? '1' : '0'))
+                .put((byte) ',').put((byte) (analysis.containsCommonWord() ? '1' : '0'))
+                .put((byte) ',');
+        putHundredths(analysis.guessesLog10());
+        buffer.put((byte) ',');
+        boolean first = true;
+        for (int mask = analysis.suggestionMask(); mask != 0; mask &= mask - 1) {
+            if (!first) {
+                buffer.put((byte) '|');
+            }
+            first = false;
+            buffer.put(SUGGESTION_NAMES[Integer.numberOfTrailingZeros(mask)]);
+        }
+        buffer.put((byte) '\n');
+    }
+
+    private void writeJson(long lineNumber, PasswordStrengthChecker.Analysis analysis) {
+        putAscii("{\"line\":");
+        putLong(lineNumber);
+        putAscii(",\"strength\":\"");
+        buffer.put(STRENGTH_NAMES[analysis.strength().ordinal()]);
+        putAscii("\",\"score\":");
+        putLong(analysis.score());
+        putAscii(analysis.isCommonPassword() ? ",\"common\":true" : ",\"common\":false");
+        putAscii(analysis.containsCommonWord() ? ",\"containsCommonWord\":true" : ",\"containsCommonWord\":false");
+        putAscii(",\"guessesLog10\":");
+        putHundredths(analysis.guessesLog10());
+        putAscii(",\"suggestions\":[");
+        boolean first = true;
+        for (int mask = analysis.suggestionMask(); mask != 0; mask &= mask - 1) {
+            if (!first) {
+                buffer.put((byte) ',');
+            }
+            first = false;
+            buffer.put((byte) '"').put(SUGGESTION_NAMES[Integer.numberOfTrailingZeros(mask)]).put((byte) '"');
+        }
+        putAscii("]}\n");
+    }
+
+    /**
+     * Returns the aggregates of the rows accepted so far.
+     */
+    public Summary summary() {
+        Map<PasswordStrengthChecker.Strength, Long> strengths = new EnumMap<>(PasswordStrengthChecker.Strength.class);
+        for (PasswordStrengthChecker.Strength strength : PasswordStrengthChecker.Strength.values()) {
+            strengths.put(strength, strengthCounts[strength.ordinal()]);
+        }
+        List<PasswordStrengthChecker.Suggestion> rules = new ArrayList<>();
+        for (PasswordStrengthChecker.Suggestion suggestion : PasswordStrengthChecker.Suggestion.values()) {
+            if (suggestionCounts[suggestion.ordinal()] > 0) {
+                rules.add(suggestion);
+            }
+        }
+        rules.sort((a, b) -> Long.compare(suggestionCounts[b.ordinal()], suggestionCounts[a.ordinal()]));
+        Map<PasswordStrengthChecker.Suggestion, Long> failingRules = new LinkedHashMap<>();
+        for (PasswordStrengthChecker.Suggestion rule : rules) {
+            failingRules.put(rule, suggestionCounts[rule.ordinal()]);
+        }
+        return new Summary(rows, Collections.unmodifiableMap(strengths), Collections.unmodifiableMap(failingRules),
+                commonCount, containsCommonWordCount, rows == 0 ? 0 : (double) scoreTotal / rows,
+                rows == 0 ? 0 : guessesLog10Total / rows);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void putAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    private void putLong(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Writes {@code value} rounded to two decimals the way
+     * {@link Double#toString(double)} prints such a value, e.g. {@code 3.0},
+     * {@code 3.1} or {@code 3.14}.
+     */
+    private void putHundredths(double value) {
+        long hundredths = Math.round(value * 100);
+        if (hundredths < 0) {
+            buffer.put((byte) '-');
+            hundredths = -hundredths;
+        }
+        putLong(hundredths / 100);
+        buffer.put((byte) '.');
+        int fraction = (int) (hundredths % 100);
+        buffer.put((byte) ('0' + fraction / 10));
+        if (fraction % 10 != 0) {
+            buffer.put((byte) ('0' + fraction % 10));
+        }
+    }
+
+    private static byte[][] asciiNames(Enum<?>[] values) {
+        byte[][] names = new byte[values.length][];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = value.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+}
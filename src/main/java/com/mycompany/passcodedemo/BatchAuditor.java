@@ -0,0 +1,227 @@
+package com.mycompany.passcodedemo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch engine that scores newline-delimited password lists without
+ * touching the Swing UI.
+ *
+ * <p>The input is read in fixed-size chunks which are analysed on a
+ * work-stealing {@link ForkJoinPool}. At most {@code maxInFlightChunks} chunks
+ * are held in memory at any time, so memory use is bounded by the chunk size
+ * rather than by the size of the input. Results are handed to a
+ * {@link ResultSink} on the calling thread, either in input order or in
+ * completion order.</p>
+ */
+public final class BatchAuditor {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final PasswordStrengthChecker checker;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+    private final boolean ordered;
+
+    public BatchAuditor(PasswordStrengthChecker checker, int parallelism, boolean ordered) {
+        this(checker, parallelism, DEFAULT_CHUNK_SIZE, ordered);
+    }
+
+    public BatchAuditor(PasswordStrengthChecker checker, int parallelism, int chunkSize, boolean ordered) {
+        if (checker == null) {
+            throw new IllegalArgumentException("checker must not be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.checker = checker;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.maxInFlightChunks = parallelism * 2;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Audits every line of {@code input} and writes one CSV result line per
+     * password to {@code output}, as described by
+     * {@link AuditReportWriter.Format#CSV}.
+     *
+     * @return the number of passwords analysed
+     * @throws IOException when the input cannot be read or the output written
+     */
+    public long audit(Path input, Path output) throws IOException {
+        return audit(input, output, AuditReportWriter.Format.CSV).rows();
+    }
+
+    /**
+     * Audits every line of {@code input} into a report of the given format
+     * and returns the aggregates gathered while writing it.
+     *
+     * @throws IOException when the input cannot be read or the output written
+     */
+    public AuditReportWriter.Summary audit(Path input, Path output, AuditReportWriter.Format format)
+            throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+                AuditReportWriter report = AuditReportWriter.open(output, format)) {
+            audit(reader, report);
+            return report.summary();
+        }
+    }
+
+    /**
+     * Audits every line read from {@code reader}, handing each result to
+     * {@code sink} on the calling thread.
+     *
+     * @return the number of passwords analysed
+     * @throws IOException when reading fails or the sink reports an error
+     */
+    public long audit(BufferedReader reader, ResultSink sink) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return ordered ? auditOrdered(reader, sink, pool) : auditUnordered(reader, sink, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long auditOrdered(BufferedReader reader, ResultSink sink, ForkJoinPool pool) throws IOException {
+        ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>(maxInFlightChunks);
+        long total = 0;
+        long nextLine = 1;
+        Chunk chunk;
+        while ((chunk = readChunk(reader, nextLine)) != null) {
+            nextLine += chunk.size;
+            if (pending.size() == maxInFlightChunks) {
+                total += emit(await(pending.removeFirst()), sink);
+            }
+            Chunk task = chunk;
+            pending.addLast(pool.submit(() -> analyse(task)));
+        }
+        while (!pending.isEmpty()) {
+            total += emit(await(pending.removeFirst()), sink);
+        }
+        return total;
+    }
+
+    private long auditUnordered(BufferedReader reader, ResultSink sink, ForkJoinPool pool) throws IOException {
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(pool);
+        int inFlight = 0;
+        long total = 0;
+        long nextLine = 1;
+        Chunk chunk;
+        while ((chunk = readChunk(reader, nextLine)) != null) {
+            nextLine += chunk.size;
+            if (inFlight == maxInFlightChunks) {
+                total += emit(take(completion), sink);
+                inFlight--;
+            }
+            Chunk task = chunk;
+            completion.submit(() -> analyse(task));
+            inFlight++;
+        }
+        while (inFlight > 0) {
+            total += emit(take(completion), sink);
+            inFlight--;
+        }
+        return total;
+    }
+
+    private Chunk readChunk(BufferedReader reader, long firstLine) throws IOException {
+        String[] lines = new String[chunkSize];
+        int size = 0;
+        String line;
+        while (size < chunkSize && (line = reader.readLine()) != null) {
+            lines[size++] = line;
+        }
+        return size == 0 ? null : new Chunk(firstLine, lines, size);
+    }
+
+    private Chunk analyse(Chunk chunk) {
+        PasswordStrengthChecker.Analysis[] results = new PasswordStrengthChecker.Analysis[chunk.size];
+        for (int i = 0; i < chunk.size; i++) {
+            results[i] = checker.analyze(chunk.lines[i]);
+            chunk.lines[i] = null;
+        }
+        chunk.results = results;
+        return chunk;
+    }
+
+    private long emit(Chunk chunk, ResultSink sink) throws IOException {
+        PasswordStrengthChecker.Analysis[] results = chunk.results;
+        for (int i = 0; i < chunk.size; i++) {
+            sink.accept(chunk.firstLine + i, results[i]);
+        }
+        return chunk.size;
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch audit interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    private static Chunk take(CompletionService<Chunk> completion) throws IOException {
+        try {
+            return await(completion.take());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch audit interrupted", ex);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException("Batch audit failed", cause);
+    }
+
+    /**
+     * Receives audit results. Always invoked from the thread that called
+     * {@link #audit(BufferedReader, ResultSink)}, so implementations do not
+     * need to be thread-safe.
+     */
+    @FunctionalInterface
+    public interface ResultSink {
+        void accept(long lineNumber, PasswordStrengthChecker.Analysis analysis) throws IOException;
+    }
+
+    private static final class Chunk {
+        final long firstLine;
+        final String[] lines;
+        final int size;
+        PasswordStrengthChecker.Analysis[] results;
+
+        Chunk(long firstLine, String[] lines, int size) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.mycompany.passcodedemo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Local, memory-mapped equivalent of the Pwned Passwords range API: SHA-1
+ * hashes of breached passwords, partitioned by their first five hex digits.
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ *   header   magic:int  version:short  algorithm:short  entries:long
+ *            reserved:long  reserved:long
+ *   buckets  (2^20 + 1) x long   index of the first record of each prefix
+ *   records  entries x (hash bytes 2..19, count:int), sorted by hash
+ * </pre>
+ *
+ * <p>A lookup reads two adjacent bucket slots and binary-searches the
+ * prefix's records, which for a full breach corpus of about a billion
+ * hashes span a handful of contiguous pages. Records are mapped in segments
+ * of at most {@value #MAX_SEGMENT_BYTES} bytes that start on bucket
+ * boundaries, so files beyond the 2 GB {@link ByteBuffer} limit work and
+ * heap use stays constant however many hashes the file holds. Instances are
+ * immutable and thread-safe.</p>
+ */
+public final class BreachIndex {
+
+    static final int MAGIC = 0x50434248; // "PCBH"
+    static final short VERSION = 1;
+    static final short ALGORITHM_SHA1 = 1;
+    static final int HEADER_SIZE = 32;
+
+    /** Number of hex digits in a range prefix. */
+    public static final int PREFIX_LENGTH = 5;
+
+    private static final int HASH_BYTES = 20;
+    private static final int SUFFIX_BYTES = HASH_BYTES - 2;
+    private static final int RECORD_BYTES = SUFFIX_BYTES + Integer.BYTES;
+    private static final int BUCKETS = 1 << 20;
+    private static final long TABLE_BYTES = (BUCKETS + 1L) * Long.BYTES;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    private final ByteBuffer buckets;
+    private final ByteBuffer[] segments;
+    /** First bucket of each segment, ascending. */
+    private final int[] segmentFirstBucket;
+    /** Index of the first record of each segment. */
+    private final long[] segmentFirstRecord;
+    private final long entries;
+
+    /**
+     * One entry of a range query: the hash without its prefix, as 35
+     * upper-case hex digits, and how often it was seen.
+     */
+    public record Suffix(String suffix, int count) {
+    }
+
+    private BreachIndex(ByteBuffer buckets, ByteBuffer[] segments, int[] segmentFirstBucket,
+            long[] segmentFirstRecord, long entries) {
+        this.buckets = buckets;
+        this.segments = segments;
+        this.segmentFirstBucket = segmentFirstBucket;
+        this.segmentFirstRecord = segmentFirstRecord;
+        this.entries = entries;
+    }
+
+    /**
+     * Maps an index file produced by {@link #compile}. The file channel is
+     * closed before returning; the mappings stay valid until the index is
+     * garbage collected.
+     *
+     * @throws IOException when the file cannot be read or is not a valid index
+     */
+    public static BreachIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE + TABLE_BYTES) {
+                throw new IOException("Not a breach index: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a breach index: " + file);
+            }
+            short version = header.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported breach index version " + version + ": " + file);
+            }
+            short algorithm = header.getShort(6);
+            long entries = header.getLong(8);
+            if (algorithm != ALGORITHM_SHA1 || entries < 0
+                    || HEADER_SIZE + TABLE_BYTES + entries * RECORD_BYTES != fileSize) {
+                throw new IOException("Corrupt breach index header: " + file);
+            }
+            ByteBuffer buckets = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, TABLE_BYTES);
+            if (buckets.getLong(0) != 0 || buckets.getLong(BUCKETS * Long.BYTES) != entries) {
+                throw new IOException("Corrupt breach index bucket table: " + file);
+            }
+
+            List<ByteBuffer> segments = new ArrayList<>();
+            List<Integer> firstBuckets = new ArrayList<>();
+            List<Long> firstRecords = new ArrayList<>();
+            int bucket = 0;
+            while (bucket < BUCKETS) {
+                long first = bucketStart(buckets, bucket);
+                int end = bucket;
+                while (end < BUCKETS && (bucketStart(buckets, end + 1) - first) * RECORD_BYTES <= MAX_SEGMENT_BYTES) {
+                    if (bucketStart(buckets, end + 1) < bucketStart(buckets, end)) {
+                        throw new IOException("Corrupt breach index bucket table: " + file);
+                    }
+                    end++;
+                }
+                if (end == bucket) {
+                    throw new IOException("Breach index bucket too large: " + file);
+                }
+                long last = bucketStart(buckets, end);
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + TABLE_BYTES + first * RECORD_BYTES, (last - first) * RECORD_BYTES));
+                firstBuckets.add(bucket);
+                firstRecords.add(first);
+                bucket = end;
+            }
+            return new BreachIndex(buckets, segments.toArray(ByteBuffer[]::new),
+                    firstBuckets.stream().mapToInt(Integer::intValue).toArray(),
+                    firstRecords.stream().mapToLong(Long::longValue).toArray(), entries);
+        }
+    }
+
+    /**
+     * Returns the number of hashes in the index.
+     */
+    public long size() {
+        return entries;
+    }
+
+    /**
+     * Returns how often {@code password} appears in the breach corpus, or 0.
+     * The password is hashed as UTF-8, case-sensitively, like the Pwned
+     * Passwords service does.
+     */
+    public int count(CharSequence password) {
+        return count(sha1(password));
+    }
+
+    /**
+     * Returns the count recorded for a 20-byte SHA-1 hash, or 0.
+     */
+    public int count(byte[] hash) {
+        if (hash.length != HASH_BYTES) {
+            throw new IllegalArgumentException("Expected a 20-byte SHA-1 hash");
+        }
+        int bucket = (hash[0] & 0xFF) << 12 | (hash[1] & 0xFF) << 4 | (hash[2] & 0xFF) >>> 4;
+        int segment = segmentOf(bucket);
+        ByteBuffer records = segments[segment];
+        long base = segmentFirstRecord[segment];
+        long low = bucketStart(buckets, bucket) - base;
+        long high = bucketStart(buckets, bucket + 1) - base - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int offset = (int) (middle * RECORD_BYTES);
+            int comparison = compareSuffix(records, offset, hash);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return records.getInt(offset + SUFFIX_BYTES);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns every hash starting with the five hex digits {@code prefix},
+     * without the prefix, in hash order. This is what a k-anonymity client
+     * receives: the caller matches its own suffix locally.
+     */
+    public List<Suffix> range(String prefix) {
+        int bucket = parsePrefix(prefix);
+        int segment = segmentOf(bucket);
+        ByteBuffer records = segments[segment];
+        long base = segmentFirstRecord[segment];
+        long first = bucketStart(buckets, bucket) - base;
+        long last = bucketStart(buckets, bucket + 1) - base;
+        List<Suffix> result = new ArrayList<>((int) (last - first));
+        byte[] suffix = new byte[SUFFIX_BYTES];
+        for (long record = first; record < last; record++) {
+            int offset = (int) (record * RECORD_BYTES);
+            records.get(offset, suffix);
+            // The first suffix byte still carries the prefix's last digit in its high nibble.
+            String hex = HEX.formatHex(suffix).substring(1);
+            result.add(new Suffix(hex, records.getInt(offset + SUFFIX_BYTES)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the SHA-1 of {@code password} encoded as UTF-8, without
+     * creating a {@link String} copy.
+     */
+    static byte[] sha1(CharSequence password) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-1 is not available", ex);
+        }
+        byte[] block = new byte[64];
+        int used = 0;
+        for (int i = 0; i < password.length(); i++) {
+            if (used > block.length - 4) {
+                digest.update(block, 0, used);
+                used = 0;
+            }
+            int c = password.charAt(i);
+            if (Character.isHighSurrogate((char) c) && i + 1 < password.length()
+                    && Character.isLowSurrogate(password.charAt(i + 1))) {
+                c = Character.toCodePoint((char) c, password.charAt(++i));
+            } else if (Character.isSurrogate((char) c)) {
+                c = '?';
+            }
+            if (c < 0x80) {
+                block[used++] = (byte) c;
+            } else if (c < 0x800) {
+                block[used++] = (byte) (0xC0 | c >>> 6);
+                block[used++] = (byte) (0x80 | c & 0x3F);
+            } else if (c < 0x10000) {
+                block[used++] = (byte) (0xE0 | c >>> 12);
+                block[used++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                block[used++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                block[used++] = (byte) (0xF0 | c >>> 18);
+                block[used++] = (byte) (0x80 | c >>> 12 & 0x3F);
+                block[used++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                block[used++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        digest.update(block, 0, used);
+        Arrays.fill(block, (byte) 0);
+        return digest.digest();
+    }
+
+    // ---------------------------------------------------------------- compile
+
+    /**
+     * Compiles a Pwned Passwords style list of {@code HASH:COUNT} lines, with
+     * 40-hex-digit SHA-1 hashes in ascending order as published, into an
+     * index at {@code output}. Lines without a count are counted once. The
+     * input is streamed and the output is written to a temporary sibling and
+     * moved into place, so memory use does not depend on the corpus size.
+     *
+     * @return the number of hashes written
+     * @throws IOException when the input is malformed or not sorted, or a
+     *         file cannot be read or written
+     */
+    public static long compile(Path input, Path output) throws IOException {
+        Path absolute = output.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        long entries = 0;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+                    FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long[] bucketStarts = new long[BUCKETS + 1];
+                ByteBuffer records = ByteBuffer.allocate(RECORD_BYTES * 4096);
+                channel.position(HEADER_SIZE + TABLE_BYTES);
+                byte[] previous = null;
+                byte[] hash = new byte[HASH_BYTES];
+                long lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    line = line.trim();
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    int count = parseLine(line, hash, lineNumber);
+                    if (previous != null && Arrays.compareUnsigned(previous, hash) >= 0) {
+                        throw new IOException("Hashes must be unique and in ascending order at line " + lineNumber);
+                    }
+                    previous = hash.clone();
+                    int bucket = (hash[0] & 0xFF) << 12 | (hash[1] & 0xFF) << 4 | (hash[2] & 0xFF) >>> 4;
+                    bucketStarts[bucket + 1]++;
+                    if (!records.hasRemaining()) {
+                        writeFully(channel, records.flip());
+                        records.clear();
+                    }
+                    records.put(hash, 2, SUFFIX_BYTES).putInt(count);
+                    entries++;
+                }
+                writeFully(channel, records.flip());
+
+                for (int i = 1; i <= BUCKETS; i++) {
+                    bucketStarts[i] += bucketStarts[i - 1];
+                }
+                ByteBuffer head = ByteBuffer.allocate((int) (HEADER_SIZE + TABLE_BYTES));
+                head.putInt(MAGIC).putShort(VERSION).putShort(ALGORITHM_SHA1).putLong(entries).putLong(0).putLong(0);
+                for (long start : bucketStarts) {
+                    head.putLong(start);
+                }
+                channel.position(0);
+                writeFully(channel, head.flip());
+                channel.force(true);
+            }
+            // Moved only once the channel is closed, so no handle stays open on the renamed file.
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return entries;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Runs the compiler with command line arguments and returns the process
+     * exit code.
+     */
+    static int run(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: --compile-breach-index <output.pcbh> <hashes.txt>");
+            return 2;
+        }
+        try {
+            long started = System.nanoTime();
+            long entries = compile(Path.of(args[1]), Path.of(args[0]));
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            System.err.printf("Indexed %d hashes into %s in %d ms%n", entries, args[0], elapsedMillis);
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Breach index compilation failed: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    private int segmentOf(int bucket) {
+        int index = Arrays.binarySearch(segmentFirstBucket, bucket);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static long bucketStart(ByteBuffer buckets, int bucket) {
+        return buckets.getLong(bucket * Long.BYTES);
+    }
+
+    private static int compareSuffix(ByteBuffer records, int offset, byte[] hash) {
+        for (int i = 0; i < SUFFIX_BYTES; i++) {
+            int difference = (records.get(offset + i) & 0xFF) - (hash[i + 2] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private static int parsePrefix(String prefix) {
+        if (prefix == null || prefix.length() != PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Range prefix must be " + PREFIX_LENGTH + " hex digits");
+        }
+        try {
+            return HexFormat.fromHexDigits(prefix);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Range prefix must be " + PREFIX_LENGTH + " hex digits");
+        }
+    }
+
+    private static int parseLine(String line, byte[] hash, long lineNumber) throws IOException {
+        int colon = line.indexOf(':');
+        String hex = colon < 0 ? line : line.substring(0, colon);
+        if (hex.length() != HASH_BYTES * 2) {
+            throw new IOException("Expected a 40-digit SHA-1 hash at line " + lineNumber);
+        }
+        try {
+            for (int i = 0; i < HASH_BYTES; i++) {
+                hash[i] = (byte) HexFormat.fromHexDigits(hex, i * 2, i * 2 + 2);
+            }
+            if (colon < 0) {
+                return 1;
+            }
+            long count = Long.parseLong(line, colon + 1, line.length(), 10);
+            return (int) Math.min(Math.max(count, 0), Integer.MAX_VALUE);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Malformed hash line " + lineNumber, ex);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
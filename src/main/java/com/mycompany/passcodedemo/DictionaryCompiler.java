@@ -0,0 +1,147 @@
+package com.mycompany.passcodedemo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Offline tool that compiles raw wordlists into the binary dictionary
+ * artifact read by {@link MappedPasswordDictionary}, together with its
+ * serialised {@link PasswordBloomFilter} sidecar.
+ *
+ * <p>Input lines are trimmed, {@code #} comments and blank lines are skipped,
+ * and entries are case-folded and de-duplicated across all inputs. Both files
+ * are written to temporary siblings and moved into place, so readers never
+ * observe a half-written artifact.</p>
+ *
+ * <pre>
+ *   DictionaryCompiler &lt;output.pcd&gt; &lt;wordlist&gt;... [--bits N] [--verify]
+ * </pre>
+ */
+public final class DictionaryCompiler {
+
+    private static final String USAGE = "Usage: <output.pcd> <wordlist>... [--bits N] [--verify]";
+
+    private DictionaryCompiler() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the compiler with command line arguments and returns the process
+     * exit code.
+     */
+    static int run(String[] args) {
+        Path output = null;
+        List<Path> inputs = new ArrayList<>();
+        int bitsPerEntry = PasswordBloomFilter.DEFAULT_BITS_PER_ENTRY;
+        boolean verify = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--bits" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--bits requires a value");
+                        return 2;
+                    }
+                    try {
+                        bitsPerEntry = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException ex) {
+                        System.err.println("--bits must be an integer: " + args[i]);
+                        System.err.println(USAGE);
+                        return 2;
+                    }
+                }
+                case "--verify" -> verify = true;
+                default -> {
+                    if (output == null) {
+                        output = Path.of(args[i]);
+                    } else {
+                        inputs.add(Path.of(args[i]));
+                    }
+                }
+            }
+        }
+        if (output == null || inputs.isEmpty()) {
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        try {
+            long started = System.nanoTime();
+            Result result = compile(inputs, output, bitsPerEntry);
+            if (verify) {
+                MappedPasswordDictionary.open(output).verify();
+            }
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            System.err.printf("Compiled %d distinct entries from %d lines into %s (%d bytes) in %d ms%n",
+                    result.entries(), result.linesRead(), output, result.artifactBytes(), elapsedMillis);
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Dictionary compilation failed: " + ex.getMessage());
+            return 1;
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid compiler options: " + ex.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * Compiles {@code inputs} into {@code output} and writes the Bloom filter
+     * to {@link DictionaryLoader#filterFileFor(Path)}.
+     *
+     * @throws IOException when an input cannot be read or an output written
+     */
+    public static Result compile(List<Path> inputs, Path output, int bitsPerEntry) throws IOException {
+        MappedPasswordDictionary.Builder builder = new MappedPasswordDictionary.Builder();
+        long linesRead = 0;
+        for (Path input : inputs) {
+            // Breach corpora are not always clean UTF-8; keep going rather than abort.
+            InputStreamReader decoder = new InputStreamReader(Files.newInputStream(input),
+                    StandardCharsets.UTF_8.newDecoder()
+                            .onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+            try (BufferedReader reader = new BufferedReader(decoder, 1 << 16)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    linesRead++;
+                    String trimmed = line.trim();
+                    if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                        builder.add(trimmed);
+                    }
+                }
+            }
+        }
+
+        Path absolute = output.toAbsolutePath();
+        Path dictionaryTemp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Path filterFile = DictionaryLoader.filterFileFor(absolute);
+        Path filterTemp = filterFile.resolveSibling(filterFile.getFileName() + ".tmp");
+        try {
+            int entries = builder.writeTo(dictionaryTemp);
+            DictionaryLoader.writeFilterSidecar(filterTemp, builder.checksum(), builder.buildFilter(bitsPerEntry));
+            // The sidecar is tagged with the dictionary checksum, so a reader that
+            // catches the two files mid-swap rebuilds the filter instead of trusting it.
+            Files.move(filterTemp, filterFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(dictionaryTemp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new Result(linesRead, entries, Files.size(absolute));
+        } finally {
+            Files.deleteIfExists(dictionaryTemp);
+            Files.deleteIfExists(filterTemp);
+        }
+    }
+
+    /**
+     * Summary of a compilation run.
+     */
+    public record Result(long linesRead, int entries, long artifactBytes) {
+    }
+}
@@ -1,11 +1,21 @@
 package com.mycompany.passcodedemo;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -13,7 +23,24 @@ import java.util.Set;
  */
 public final class DictionaryLoader {
 
+    /** System property naming a compiled dictionary file to use instead of the bundled list. */
+    public static final String DICTIONARY_PROPERTY = "passcode.dictionary";
+
+    /**
+     * System property that disables the substring index when set to
+     * {@code false}; see {@link SubstringPasswordDictionary}.
+     */
+    public static final String SUBSTRING_PROPERTY = "passcode.dictionary.substrings";
+
+    /** System property naming a {@link BreachIndex} file to check passwords against. */
+    public static final String BREACH_INDEX_PROPERTY = "passcode.breach.index";
+
+    /** Dictionaries larger than this are not indexed for substrings, to bound heap use. */
+    public static final int MAX_SUBSTRING_ENTRIES = 250_000;
+
     private static final String COMMON_PASSWORDS_RESOURCE = "common_passwords.txt";
+    private static final String COMPACT_DICTIONARY_RESOURCE = "common_passwords.pcd";
+    private static final String FILTER_SUFFIX = ".bloom";
 
     private DictionaryLoader() {
     }
@@ -43,4 +70,134 @@ public final class DictionaryLoader {
             return Set.copyOf(passwords);
         }
     }
+
+    /**
+     * Loads the common-password dictionary, preferring a precompiled binary
+     * artifact (see {@link DictionaryCompiler}) over the text list:
+     * <ol>
+     *   <li>the file named by the {@value #DICTIONARY_PROPERTY} system property,</li>
+     *   <li>the {@value #COMPACT_DICTIONARY_RESOURCE} resource, mapped in place when
+     *       it is a plain file and read off-heap when it is packaged in a jar,</li>
+     *   <li>the {@value #COMMON_PASSWORDS_RESOURCE} text resource.</li>
+     * </ol>
+     * Every variant is fronted by a Bloom filter and, unless disabled with
+     * {@value #SUBSTRING_PROPERTY} or larger than {@value #MAX_SUBSTRING_ENTRIES}
+     * entries, indexed for embedded-word matching.
+     *
+     * @return a dictionary of common passwords
+     * @throws IOException when the chosen source cannot be read
+     */
+    public static PasswordDictionary loadCommonPasswordDictionary() throws IOException {
+        Path configured = configuredDictionaryFile();
+        if (configured != null) {
+            return openCompactDictionary(configured);
+        }
+
+        URL compact = DictionaryLoader.class.getClassLoader().getResource(COMPACT_DICTIONARY_RESOURCE);
+        if (compact != null) {
+            if ("file".equals(compact.getProtocol())) {
+                try {
+                    return openCompactDictionary(Path.of(compact.toURI()));
+                } catch (URISyntaxException ex) {
+                    throw new IOException("Invalid dictionary location: " + compact, ex);
+                }
+            }
+            try (InputStream in = compact.openStream()) {
+                MappedPasswordDictionary dictionary = MappedPasswordDictionary.read(in, COMPACT_DICTIONARY_RESOURCE);
+                return withSubstrings(dictionary, withFilter(dictionary, DictionaryLoader.class.getClassLoader()
+                        .getResource(COMPACT_DICTIONARY_RESOURCE + FILTER_SUFFIX)));
+            }
+        }
+
+        Set<String> passwords = loadCommonPasswords();
+        PasswordBloomFilter filter = PasswordBloomFilter.of(passwords, PasswordBloomFilter.DEFAULT_BITS_PER_ENTRY);
+        PasswordDictionary dictionary = new FilteredPasswordDictionary(filter, InMemoryPasswordDictionary.of(passwords));
+        return substringsEnabled(passwords.size()) ? SubstringPasswordDictionary.of(dictionary, passwords) : dictionary;
+    }
+
+    /**
+     * Returns the compiled dictionary file named by the
+     * {@value #DICTIONARY_PROPERTY} system property, or {@code null} when the
+     * property is not set.
+     */
+    public static Path configuredDictionaryFile() {
+        String configured = System.getProperty(DICTIONARY_PROPERTY);
+        return configured == null || configured.isBlank() ? null : Path.of(configured);
+    }
+
+    /**
+     * Opens the breach index named by the {@value #BREACH_INDEX_PROPERTY}
+     * system property, or returns {@code null} when the property is not set.
+     *
+     * @throws IOException when the configured file is not a valid index
+     */
+    public static BreachIndex openConfiguredBreachIndex() throws IOException {
+        String configured = System.getProperty(BREACH_INDEX_PROPERTY);
+        return configured == null || configured.isBlank() ? null : BreachIndex.open(Path.of(configured));
+    }
+
+    /**
+     * Opens a compact binary dictionary written by {@link DictionaryCompiler}
+     * or {@link MappedPasswordDictionary#write}. The file is memory-mapped and
+     * queried in place, so no entries are copied onto the heap. The Bloom
+     * filter stored next to it as {@code <file>.bloom} is loaded when it
+     * matches the dictionary; otherwise one is built from the mapped entries.
+     *
+     * @param file the dictionary file
+     * @return a dictionary backed by the mapped file
+     * @throws IOException when the file cannot be read or is not a valid dictionary
+     */
+    public static PasswordDictionary openCompactDictionary(Path file) throws IOException {
+        MappedPasswordDictionary dictionary = MappedPasswordDictionary.open(file);
+        Path filterFile = filterFileFor(file);
+        return withSubstrings(dictionary,
+                withFilter(dictionary, Files.isRegularFile(filterFile) ? filterFile.toUri().toURL() : null));
+    }
+
+    /**
+     * Returns where the serialised Bloom filter for a compact dictionary lives.
+     */
+    public static Path filterFileFor(Path dictionaryFile) {
+        return dictionaryFile.resolveSibling(dictionaryFile.getFileName() + FILTER_SUFFIX);
+    }
+
+    /**
+     * Writes a Bloom filter sidecar tagged with the checksum of the dictionary
+     * it was built from.
+     */
+    static void writeFilterSidecar(Path file, long dictionaryChecksum, PasswordBloomFilter filter)
+            throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeLong(dictionaryChecksum);
+            filter.writeTo(out);
+        }
+    }
+
+    private static PasswordDictionary withSubstrings(MappedPasswordDictionary entries, PasswordDictionary dictionary) {
+        if (!substringsEnabled(entries.size())) {
+            return dictionary;
+        }
+        List<String> words = new ArrayList<>(entries.size());
+        entries.forEachEntry(words::add);
+        return SubstringPasswordDictionary.of(dictionary, words);
+    }
+
+    private static boolean substringsEnabled(int entries) {
+        return entries <= MAX_SUBSTRING_ENTRIES && !"false".equalsIgnoreCase(System.getProperty(SUBSTRING_PROPERTY));
+    }
+
+    private static PasswordDictionary withFilter(MappedPasswordDictionary dictionary, URL sidecar) throws IOException {
+        PasswordBloomFilter filter = null;
+        if (sidecar != null) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(sidecar.openStream()))) {
+                if (in.readLong() == dictionary.checksum()) {
+                    filter = PasswordBloomFilter.readFrom(in);
+                }
+            }
+        }
+        if (filter == null) {
+            filter = dictionary.buildFilter(PasswordBloomFilter.DEFAULT_BITS_PER_ENTRY);
+        }
+        return new FilteredPasswordDictionary(filter, dictionary);
+    }
 }
@@ -0,0 +1,42 @@
+package com.mycompany.passcodedemo;
+
+/**
+ * {@link PasswordDictionary} that consults a {@link PasswordBloomFilter}
+ * before the exact lookup, so passwords that are definitely absent never touch
+ * the underlying table. Thread-safe when the filter and delegate are, which
+ * holds for the built-in implementations.
+ */
+public final class FilteredPasswordDictionary implements PasswordDictionary {
+
+    private final PasswordBloomFilter filter;
+    private final PasswordDictionary delegate;
+
+    public FilteredPasswordDictionary(PasswordBloomFilter filter, PasswordDictionary delegate) {
+        this.filter = filter;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        if (password == null || password.length() == 0) {
+            return false;
+        }
+        return filter.mightContain(password) && delegate.contains(password);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void forEachEmbeddedWord(CharSequence password, EmbeddedWordConsumer consumer) {
+        // The filter only answers whole-password queries.
+        delegate.forEachEmbeddedWord(password, consumer);
+    }
+
+    @Override
+    public boolean containsEmbeddedWord(CharSequence password) {
+        return delegate.containsEmbeddedWord(password);
+    }
+}
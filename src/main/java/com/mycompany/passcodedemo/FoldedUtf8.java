@@ -0,0 +1,185 @@
+package com.mycompany.passcodedemo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streams the UTF-8 encoding of a case-folded character sequence without
+ * allocating. Used by the binary dictionary formats, which store entries as
+ * folded UTF-8 and must hash and compare candidates straight from a
+ * {@link CharSequence}.
+ *
+ * <p>Folding matches {@link PasswordDictionary}: every UTF-16 unit goes
+ * through {@link Character#toLowerCase(char)}. Unpaired surrogates are encoded
+ * as {@code '?'}, like {@link String#getBytes(java.nio.charset.Charset)}.</p>
+ */
+final class FoldedUtf8 {
+
+    private FoldedUtf8() {
+    }
+
+    /**
+     * Returns the number of bytes in the folded UTF-8 encoding of {@code value}.
+     */
+    static int length(CharSequence value) {
+        int bytes = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            int codePoint = codePointAt(value, i);
+            if (codePoint > 0xFFFF) {
+                i++;
+            }
+            bytes += encodedLength(codePoint);
+        }
+        return bytes;
+    }
+
+    /**
+     * Hashes the folded UTF-8 encoding of {@code value}. Equal to
+     * {@link #hash(ByteBuffer, int, int)} over the encoded bytes.
+     */
+    static int hash(CharSequence value) {
+        int hash = 0x811C9DC5;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            int codePoint = codePointAt(value, i);
+            if (codePoint > 0xFFFF) {
+                i++;
+            }
+            for (int k = 0, n = encodedLength(codePoint); k < n; k++) {
+                hash = (hash ^ encodedByte(codePoint, n, k)) * 0x01000193;
+            }
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Hashes {@code length} already-encoded bytes starting at {@code offset}.
+     */
+    static int hash(ByteBuffer buffer, int offset, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (buffer.get(offset + i) & 0xFF)) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64-bit hash of the folded UTF-8 encoding of {@code value}, used where a
+     * wider hash is needed to derive several independent bit positions. Equal
+     * to {@link #hash64(ByteBuffer, int, int)} over the encoded bytes.
+     */
+    static long hash64(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            int codePoint = codePointAt(value, i);
+            if (codePoint > 0xFFFF) {
+                i++;
+            }
+            for (int k = 0, n = encodedLength(codePoint); k < n; k++) {
+                hash = (hash ^ encodedByte(codePoint, n, k)) * 0x100000001B3L;
+            }
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * 64-bit hash of {@code length} already-encoded bytes starting at {@code offset}.
+     */
+    static long hash64(ByteBuffer buffer, int offset, int length) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (buffer.get(offset + i) & 0xFF)) * 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * Compares the folded encoding of {@code value} with {@code length} bytes
+     * of {@code buffer} starting at {@code offset}.
+     */
+    static boolean matches(CharSequence value, ByteBuffer buffer, int offset, int length) {
+        int position = offset;
+        int end = offset + length;
+        for (int i = 0, size = value.length(); i < size; i++) {
+            int codePoint = codePointAt(value, i);
+            if (codePoint > 0xFFFF) {
+                i++;
+            }
+            int n = encodedLength(codePoint);
+            if (position + n > end) {
+                return false;
+            }
+            for (int k = 0; k < n; k++) {
+                if (buffer.get(position++) != (byte) encodedByte(codePoint, n, k)) {
+                    return false;
+                }
+            }
+        }
+        return position == end;
+    }
+
+    /**
+     * Writes the folded encoding of {@code value} into {@code target} at
+     * {@code offset}, which must have room for {@link #length(CharSequence)} bytes.
+     */
+    static void encode(CharSequence value, byte[] target, int offset) {
+        int position = offset;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            int codePoint = codePointAt(value, i);
+            if (codePoint > 0xFFFF) {
+                i++;
+            }
+            for (int k = 0, n = encodedLength(codePoint); k < n; k++) {
+                target[position++] = (byte) encodedByte(codePoint, n, k);
+            }
+        }
+    }
+
+    private static int codePointAt(CharSequence value, int index) {
+        char c = value.charAt(index);
+        if (Character.isHighSurrogate(c)) {
+            if (index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+                return Character.toCodePoint(c, value.charAt(index + 1));
+            }
+            return '?';
+        }
+        if (Character.isLowSurrogate(c)) {
+            return '?';
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int encodedLength(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static int encodedByte(int codePoint, int length, int index) {
+        if (length == 1) {
+            return codePoint;
+        }
+        int shift = 6 * (length - 1 - index);
+        if (index == 0) {
+            int lead = length == 2 ? 0xC0 : length == 3 ? 0xE0 : 0xF0;
+            return lead | (codePoint >>> shift);
+        }
+        return 0x80 | ((codePoint >>> shift) & 0x3F);
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+
+    private static long mix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,837 @@
+package com.mycompany.passcodedemo;
+
+import java.nio.CharBuffer;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Estimates how many guesses an attacker needs to find a password, in the
+ * style of zxcvbn.
+ *
+ * <p>The password is scanned for candidate segments: dictionary words,
+ * character sequences ({@code abc}, {@code 9753}), repeats ({@code aaa},
+ * {@code abab}), keyboard walks ({@code qwerty}, {@code ㅂㅈㄷㄱ}), dates and
+ * years; dictionary words are also looked up with l33t substitutions undone
+ * ({@code p@ssw0rd}). Each
+ * candidate is assigned a guess count, and dynamic programming picks the
+ * cover of the password, filling gaps with brute force, whose combined guess
+ * count is lowest. As in zxcvbn a cover of {@code l} segments costs
+ * {@code l! * product(guesses)}, plus a small term that makes multi-segment
+ * covers pay for their structure.</p>
+ *
+ * <p>Every detector emits only a bounded number of candidates per position.
+ * Like zxcvbn, the dynamic program keeps the cheapest cover per end position
+ * and segment count, and adds the {@code l!} and structure terms only when
+ * comparing finished covers, so the minimum it finds is exact. A cover of
+ * {@code l} segments costs at least {@code 10^(4(l-1))} guesses, more than
+ * brute force once {@code 4(l-1)} exceeds the length, so at most
+ * {@code length / 4 + 1} segment counts are tracked and estimating stays
+ * close to linear in the password length and the number of candidates.
+ * Instances are immutable and thread-safe.</p>
+ */
+public final class GuessEstimator {
+
+    /**
+     * Kind of segment in a password decomposition.
+     */
+    public enum Kind {
+        DICTIONARY,
+        SEQUENCE,
+        REPEAT,
+        KEYBOARD,
+        DATE,
+        BRUTEFORCE
+    }
+
+    /**
+     * Guessing rates used to turn a guess count into a crack time.
+     */
+    public enum AttackScenario {
+        /** Online attack against a service that rate-limits logins. */
+        ONLINE_THROTTLED(100.0 / 3600),
+        /** Online attack without rate limiting. */
+        ONLINE_UNTHROTTLED(10),
+        /** Offline attack against a slow, salted hash such as bcrypt. */
+        OFFLINE_SLOW_HASH(1e4),
+        /** Offline attack against a fast hash on dedicated hardware. */
+        OFFLINE_FAST_HASH(1e10);
+
+        private final double guessesPerSecond;
+
+        AttackScenario(double guessesPerSecond) {
+            this.guessesPerSecond = guessesPerSecond;
+        }
+
+        public double guessesPerSecond() {
+            return guessesPerSecond;
+        }
+
+        /**
+         * Returns the expected seconds to exhaust {@code 10^guessesLog10}
+         * guesses at this rate.
+         */
+        public double seconds(double guessesLog10) {
+            return Math.pow(10, guessesLog10) / guessesPerSecond;
+        }
+    }
+
+    /**
+     * One segment of the cheapest decomposition, covering characters
+     * {@code [start, end)}.
+     */
+    public record Segment(Kind kind, int start, int end, double guessesLog10) {
+    }
+
+    /**
+     * Result of an estimate: the total guess count as a base-10 logarithm and
+     * the segments it is made of, in password order.
+     */
+    public record Estimate(double guessesLog10, List<Segment> segments) {
+    }
+
+    /**
+     * Guess count together with what the dictionary lookups behind it found,
+     * l33t variants included, so that callers need not repeat them.
+     * {@code isDictionaryWord} is set when the password or one of its
+     * variants is an entry, {@code containsDictionaryWord} when any entry
+     * occurs in it.
+     */
+    record Assessment(double guessesLog10, boolean isDictionaryWord, boolean containsDictionaryWord) {
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final double BRUTEFORCE_CARDINALITY_LOG10 = 1;
+    private static final double MIN_GUESSES_BEFORE_GROWING_SEQUENCE_LOG10 = 4;
+    private static final int MAX_SEQUENCE_DELTA = 5;
+    private static final int MAX_REPEAT_PERIOD = 4;
+    private static final int MIN_YEAR_SPACE = 20;
+    private static final int DATE_MIN_YEAR = 1000;
+    private static final int DATE_MAX_YEAR = 2050;
+    private static final int REFERENCE_YEAR = Year.now().getValue();
+    private static final char[] DATE_SEPARATORS = {' ', '-', '/', '\\', '_', '.'};
+    /** zxcvbn's ways to split 4 to 8 digits into day, month and year. */
+    private static final int[][][] DATE_SPLITS = {
+        {{1, 2}, {2, 3}},
+        {{1, 3}, {2, 3}},
+        {{1, 2}, {2, 4}, {4, 5}},
+        {{1, 3}, {2, 3}, {4, 5}, {4, 6}},
+        {{2, 4}, {4, 6}}
+    };
+    /** Most segments considered per cover; exact for passwords of fewer than 64 characters. */
+    private static final int MAX_SEGMENTS = 16;
+    private static final double[] LOG10_FACTORIAL = new double[256];
+
+    static {
+        for (int i = 2; i < LOG10_FACTORIAL.length; i++) {
+            LOG10_FACTORIAL[i] = LOG10_FACTORIAL[i - 1] + Math.log10(i);
+        }
+    }
+
+    private final PasswordDictionary dictionary;
+    private final KeyboardLayout keyboard;
+
+    public GuessEstimator(PasswordDictionary dictionary) {
+        this(dictionary, KeyboardLayout.QWERTY_DUBEOLSIK);
+    }
+
+    GuessEstimator(PasswordDictionary dictionary, KeyboardLayout keyboard) {
+        this.dictionary = dictionary;
+        this.keyboard = keyboard;
+    }
+
+    /**
+     * Estimates the guesses needed for {@code password}.
+     */
+    public Estimate estimate(CharSequence password) {
+        int length = password == null ? 0 : password.length();
+        if (length == 0) {
+            return new Estimate(0, List.of());
+        }
+        Candidates candidates = findCandidates(password);
+        Cover cover = new Cover(length, true);
+        double total = cover.cheapestTotal(candidates);
+        return new Estimate(total, cover.segments(candidates));
+    }
+
+    /**
+     * Returns only the base-10 logarithm of the guess count, without
+     * building the segment list.
+     */
+    public double guessesLog10(CharSequence password) {
+        int length = password == null ? 0 : password.length();
+        if (length == 0) {
+            return 0;
+        }
+        return new Cover(length, false).cheapestTotal(findCandidates(password));
+    }
+
+    /**
+     * Returns the guess count and the dictionary findings for
+     * {@code password}.
+     */
+    Assessment assess(CharSequence password) {
+        int length = password == null ? 0 : password.length();
+        if (length == 0) {
+            return new Assessment(0, false, false);
+        }
+        Candidates candidates = findCandidates(password);
+        return new Assessment(new Cover(length, false).cheapestTotal(candidates), candidates.hasWholeWord(),
+                candidates.hasWord());
+    }
+
+    private Candidates findCandidates(CharSequence password) {
+        Candidates candidates = new Candidates(password.length());
+        addDictionaryMatches(password, candidates);
+        addLeetMatches(password, candidates);
+        addSequenceMatches(password, candidates);
+        addRepeatMatches(password, candidates);
+        addKeyboardMatches(password, candidates);
+        addDateMatches(password, candidates);
+        return candidates;
+    }
+
+    // ---------------------------------------------------------------- matchers
+
+    private void addDictionaryMatches(CharSequence password, Candidates candidates) {
+        // Without rank information an attacker is expected to get through half the list.
+        double rankLog10 = Math.log10(Math.max(1, (dictionary.size() + 1) / 2.0));
+        dictionary.forEachEmbeddedWord(password, (start, end) -> candidates.add(Kind.DICTIONARY, start, end,
+                rankLog10 + uppercaseVariationsLog10(password, start, end)));
+        // Short entries are not in the substring index, and not every dictionary has one.
+        if (!candidates.hasWholeWord() && dictionary.contains(password)) {
+            candidates.add(Kind.DICTIONARY, 0, password.length(),
+                    rankLog10 + uppercaseVariationsLog10(password, 0, password.length()));
+        }
+    }
+
+    /**
+     * Matches dictionary words in the l33t variants of the password. Words
+     * that do not involve a substituted character were already found by
+     * {@link #addDictionaryMatches}.
+     */
+    private void addLeetMatches(CharSequence password, Candidates candidates) {
+        LeetSubstitutions.forEachVariant(password, new LeetMatcher(password, candidates));
+    }
+
+    /**
+     * Looks up every l33t variant of one password. A single instance serves
+     * all variants, and the variant array, which the enumeration reuses, is
+     * wrapped only once.
+     */
+    private final class LeetMatcher
+            implements LeetSubstitutions.VariantConsumer, PasswordDictionary.EmbeddedWordConsumer {
+        private final CharSequence password;
+        private final Candidates candidates;
+        private final double rankLog10 = Math.log10(Math.max(1, (dictionary.size() + 1) / 2.0));
+        private char[] variant;
+        private CharBuffer wrapped;
+        private boolean whole;
+
+        LeetMatcher(CharSequence password, Candidates candidates) {
+            this.password = password;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public boolean accept(char[] variant) {
+            if (variant != this.variant) {
+                this.variant = variant;
+                wrapped = CharBuffer.wrap(variant);
+            }
+            int length = variant.length;
+            whole = false;
+            dictionary.forEachEmbeddedWord(wrapped, this);
+            if (!whole && dictionary.contains(wrapped)) {
+                candidates.add(Kind.DICTIONARY, 0, length, rankLog10
+                        + uppercaseVariationsLog10(wrapped, 0, length)
+                        + leetVariationsLog10(password, variant, 0, length));
+            }
+            return true;
+        }
+
+        @Override
+        public void accept(int start, int end) {
+            whole |= start == 0 && end == variant.length;
+            if (isSubstituted(password, variant, start, end)) {
+                candidates.add(Kind.DICTIONARY, start, end, rankLog10
+                        + uppercaseVariationsLog10(wrapped, start, end)
+                        + leetVariationsLog10(password, variant, start, end));
+            }
+        }
+    }
+
+    private static void addSequenceMatches(CharSequence password, Candidates candidates) {
+        int length = password.length();
+        int start = 0;
+        while (start < length - 2) {
+            int delta = password.charAt(start + 1) - password.charAt(start);
+            if (delta == 0 || Math.abs(delta) > MAX_SEQUENCE_DELTA) {
+                start++;
+                continue;
+            }
+            int end = start + 2;
+            while (end < length && password.charAt(end) - password.charAt(end - 1) == delta) {
+                end++;
+            }
+            if (end - start >= 3) {
+                char first = password.charAt(start);
+                double base;
+                if ("aAzZ019".indexOf(first) >= 0) {
+                    base = 4;
+                } else if (Character.isDigit(first)) {
+                    base = 10;
+                } else {
+                    base = 26;
+                }
+                if (delta < 0) {
+                    base *= 2;
+                }
+                candidates.add(Kind.SEQUENCE, start, end, Math.log10(base * (end - start)));
+                start = end - 1;
+            } else {
+                start++;
+            }
+        }
+    }
+
+    private static void addRepeatMatches(CharSequence password, Candidates candidates) {
+        int length = password.length();
+        for (int period = 1; period <= MAX_REPEAT_PERIOD; period++) {
+            int runStart = -1;
+            for (int i = period; i <= length; i++) {
+                boolean repeats = i < length && password.charAt(i) == password.charAt(i - period);
+                if (repeats && runStart < 0) {
+                    runStart = i - period;
+                } else if (!repeats && runStart >= 0) {
+                    int count = (i - runStart) / period;
+                    int minCount = period == 1 ? 3 : 2;
+                    if (count >= minCount) {
+                        candidates.add(Kind.REPEAT, runStart, runStart + count * period,
+                                period * BRUTEFORCE_CARDINALITY_LOG10 + Math.log10(count));
+                    }
+                    runStart = -1;
+                }
+            }
+        }
+    }
+
+    private void addKeyboardMatches(CharSequence password, Candidates candidates) {
+        int length = password.length();
+        int start = 0;
+        while (start < length - 1) {
+            int previous = keyboard.code(password.charAt(start));
+            int shifted = previous >= 0 && KeyboardLayout.isShifted(previous) ? 1 : 0;
+            int turns = 0;
+            int lastDirection = -1;
+            int end = start + 1;
+            while (end < length) {
+                int code = keyboard.code(password.charAt(end));
+                int direction = keyboard.direction(previous, code);
+                if (direction < 0) {
+                    break;
+                }
+                if (KeyboardLayout.isShifted(code)) {
+                    shifted++;
+                }
+                if (direction != lastDirection) {
+                    turns++;
+                    lastDirection = direction;
+                }
+                previous = code;
+                end++;
+            }
+            if (end - start >= 3) {
+                candidates.add(Kind.KEYBOARD, start, end, keyboardGuessesLog10(end - start, turns, shifted));
+            }
+            start = end;
+        }
+    }
+
+    private double keyboardGuessesLog10(int length, int turns, int shifted) {
+        double startingPositions = keyboard.keyCount();
+        double degree = keyboard.averageDegree();
+        double guesses = 0;
+        for (int i = 2; i <= length; i++) {
+            int possibleTurns = Math.min(turns, i - 1);
+            for (int j = 1; j <= possibleTurns; j++) {
+                guesses += binomial(i - 1, j - 1) * startingPositions * Math.pow(degree, j);
+            }
+        }
+        int unshifted = length - shifted;
+        if (shifted > 0 && unshifted == 0) {
+            guesses *= 2;
+        } else if (shifted > 0) {
+            double variations = 0;
+            for (int i = 1; i <= Math.min(shifted, unshifted); i++) {
+                variations += binomial(length, i);
+            }
+            guesses *= variations;
+        }
+        return Math.log10(Math.max(1, guesses));
+    }
+
+    private static void addDateMatches(CharSequence password, Candidates candidates) {
+        int length = password.length();
+        for (int start = 0; start < length; start++) {
+            if (!isAsciiDigit(password.charAt(start))) {
+                continue;
+            }
+            int digitsEnd = start;
+            while (digitsEnd < length && digitsEnd - start < 8 && isAsciiDigit(password.charAt(digitsEnd))) {
+                digitsEnd++;
+            }
+            if (digitsEnd - start >= 4) {
+                int year = parse(password, start, start + 4);
+                if (year >= 1900 && year <= 2099) {
+                    candidates.add(Kind.DATE, start, start + 4, Math.log10(yearSpace(year)));
+                }
+            }
+            for (int end = start + 4; end <= digitsEnd; end++) {
+                int year = bestDateYear(password, start, end);
+                if (year >= 0) {
+                    candidates.add(Kind.DATE, start, end, Math.log10(yearSpace(year) * 365.0));
+                }
+            }
+            addSeparatedDate(password, start, candidates);
+        }
+    }
+
+    /**
+     * Matches {@code d{1,4} sep d{1,2} sep d{1,4}} with the same separator
+     * twice, starting at {@code start}.
+     */
+    private static void addSeparatedDate(CharSequence password, int start, Candidates candidates) {
+        int length = password.length();
+        int firstEnd = digitRunEnd(password, start, 4);
+        if (firstEnd == start || firstEnd >= length) {
+            return;
+        }
+        char separator = password.charAt(firstEnd);
+        if (!isDateSeparator(separator)) {
+            return;
+        }
+        int secondEnd = digitRunEnd(password, firstEnd + 1, 2);
+        if (secondEnd == firstEnd + 1 || secondEnd >= length || password.charAt(secondEnd) != separator) {
+            return;
+        }
+        int thirdEnd = digitRunEnd(password, secondEnd + 1, 4);
+        if (thirdEnd == secondEnd + 1 || (thirdEnd < length && isAsciiDigit(password.charAt(thirdEnd)))) {
+            return;
+        }
+        int year = dateYear(parse(password, start, firstEnd), parse(password, firstEnd + 1, secondEnd),
+                parse(password, secondEnd + 1, thirdEnd));
+        if (year >= 0) {
+            candidates.add(Kind.DATE, start, thirdEnd, Math.log10(yearSpace(year) * 365.0 * 4));
+        }
+    }
+
+    /**
+     * Returns the year of the most plausible date spelled by the digits in
+     * {@code [start, end)}, preferring years close to today, or -1.
+     */
+    private static int bestDateYear(CharSequence password, int start, int end) {
+        int best = -1;
+        for (int[] split : DATE_SPLITS[end - start - 4]) {
+            int year = dateYear(parse(password, start, start + split[0]),
+                    parse(password, start + split[0], start + split[1]),
+                    parse(password, start + split[1], end));
+            if (year >= 0 && (best < 0 || Math.abs(year - REFERENCE_YEAR) < Math.abs(best - REFERENCE_YEAR))) {
+                best = year;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * zxcvbn's day/month/year disambiguation; returns the four-digit year, or
+     * -1 when the three numbers do not form a date.
+     */
+    private static int dateYear(int a, int b, int c) {
+        if (b > 31 || b <= 0) {
+            return -1;
+        }
+        if (!isDateNumber(a) || !isDateNumber(b) || !isDateNumber(c)) {
+            return -1;
+        }
+        int over31 = (a > 31 ? 1 : 0) + (b > 31 ? 1 : 0) + (c > 31 ? 1 : 0);
+        int over12 = (a > 12 ? 1 : 0) + (b > 12 ? 1 : 0) + (c > 12 ? 1 : 0);
+        int under1 = (a <= 0 ? 1 : 0) + (b <= 0 ? 1 : 0) + (c <= 0 ? 1 : 0);
+        if (over31 >= 2 || over12 == 3 || under1 >= 2) {
+            return -1;
+        }
+        if (c >= DATE_MIN_YEAR && c <= DATE_MAX_YEAR) {
+            return isDayMonth(a, b) ? c : -1;
+        }
+        if (a >= DATE_MIN_YEAR && a <= DATE_MAX_YEAR) {
+            return isDayMonth(b, c) ? a : -1;
+        }
+        if (isDayMonth(a, b)) {
+            return twoToFourDigitYear(c);
+        }
+        if (isDayMonth(b, c)) {
+            return twoToFourDigitYear(a);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether {@code value} can be a day, a month, a two-digit year
+     * or a year in the supported range.
+     */
+    private static boolean isDateNumber(int value) {
+        return value <= 99 || (value >= DATE_MIN_YEAR && value <= DATE_MAX_YEAR);
+    }
+
+    private static boolean isDayMonth(int a, int b) {
+        return (a >= 1 && a <= 31 && b >= 1 && b <= 12) || (b >= 1 && b <= 31 && a >= 1 && a <= 12);
+    }
+
+    private static int twoToFourDigitYear(int year) {
+        if (year > 99) {
+            return year;
+        }
+        return year > 50 ? year + 1900 : year + 2000;
+    }
+
+    private static double yearSpace(int year) {
+        return Math.max(Math.abs(year - REFERENCE_YEAR), MIN_YEAR_SPACE);
+    }
+
+    // ---------------------------------------------------------- decomposition
+
+    /**
+     * Dynamic-programming state for covering a password of a fixed length.
+     * Costs are indexed by prefix length {@code k} and segment count
+     * {@code l}; the backtracking arrays are only allocated for
+     * {@link #segments}.
+     */
+    private static final class Cover {
+        private final int length;
+        private final int maxSegments;
+        // Two states per prefix length and segment count: the cover ends in a pattern match, or in brute force.
+        private final double[] matchCost;
+        private final double[] bruteCost;
+        private final int[] matchVia;
+        private final boolean[] matchAfterBrute;
+        private final boolean[] bruteExtends;
+        private int bestSegments;
+
+        Cover(int length, boolean traced) {
+            this.length = length;
+            // A cover of l segments costs at least 10^(4(l-1)), more than brute force once 4(l-1) > length.
+            maxSegments = Math.min(length / (int) MIN_GUESSES_BEFORE_GROWING_SEQUENCE_LOG10 + 1, MAX_SEGMENTS);
+            int states = (length + 1) * (maxSegments + 1);
+            matchCost = new double[states];
+            bruteCost = new double[states];
+            matchVia = traced ? new int[states] : null;
+            matchAfterBrute = traced ? new boolean[states] : null;
+            bruteExtends = traced ? new boolean[states] : null;
+        }
+
+        private int state(int k, int l) {
+            return k * (maxSegments + 1) + l;
+        }
+
+        /**
+         * Finds, for every segment count, the cover with the smallest product
+         * of segment guesses, and returns the lowest
+         * {@code l! * product + 10^(4(l-1))} among them.
+         */
+        double cheapestTotal(Candidates candidates) {
+            Arrays.fill(matchCost, Double.POSITIVE_INFINITY);
+            Arrays.fill(bruteCost, Double.POSITIVE_INFINITY);
+            matchCost[state(0, 0)] = 0;
+
+            for (int k = 1; k <= length; k++) {
+                for (int l = 1; l <= maxSegments; l++) {
+                    double extend = bruteCost[state(k - 1, l)] + BRUTEFORCE_CARDINALITY_LOG10;
+                    double open = matchCost[state(k - 1, l - 1)] + BRUTEFORCE_CARDINALITY_LOG10;
+                    bruteCost[state(k, l)] = Math.min(extend, open);
+                    if (bruteExtends != null) {
+                        bruteExtends[state(k, l)] = extend <= open;
+                    }
+                }
+
+                for (int m = candidates.firstEndingAt(k); m >= 0; m = candidates.next(m)) {
+                    int start = candidates.start(m);
+                    double guesses = candidates.guessesLog10(m);
+                    for (int l = 1; l <= maxSegments; l++) {
+                        double afterBrute = bruteCost[state(start, l - 1)];
+                        double afterMatch = matchCost[state(start, l - 1)];
+                        double cost = Math.min(afterBrute, afterMatch) + guesses;
+                        if (cost < matchCost[state(k, l)]) {
+                            matchCost[state(k, l)] = cost;
+                            if (matchVia != null) {
+                                matchVia[state(k, l)] = m;
+                                matchAfterBrute[state(k, l)] = afterBrute < afterMatch;
+                            }
+                        }
+                    }
+                }
+            }
+
+            double best = Double.POSITIVE_INFINITY;
+            for (int l = 1; l <= maxSegments; l++) {
+                double product = Math.min(matchCost[state(length, l)], bruteCost[state(length, l)]);
+                if (product == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                double total = product;
+                if (l > 1) {
+                    total += log10Factorial(l);
+                    double structure = MIN_GUESSES_BEFORE_GROWING_SEQUENCE_LOG10 * (l - 1);
+                    total = Math.max(total, structure) + Math.log10(1 + Math.pow(10, -Math.abs(total - structure)));
+                }
+                if (total < best) {
+                    best = total;
+                    bestSegments = l;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Backtracks the cover found by {@link #cheapestTotal}; the cover
+         * must have been created traced.
+         */
+        List<Segment> segments(Candidates candidates) {
+            int l = bestSegments;
+            boolean inBrute = bruteCost[state(length, l)] < matchCost[state(length, l)];
+            List<Segment> result = new ArrayList<>(l);
+            int k = length;
+            while (k > 0) {
+                if (inBrute) {
+                    int end = k;
+                    while (bruteExtends[state(k, l)]) {
+                        k--;
+                    }
+                    k--;
+                    result.add(new Segment(Kind.BRUTEFORCE, k, end, (end - k) * BRUTEFORCE_CARDINALITY_LOG10));
+                    inBrute = false;
+                } else {
+                    int m = matchVia[state(k, l)];
+                    result.add(new Segment(candidates.kind(m), candidates.start(m), k, candidates.guessesLog10(m)));
+                    inBrute = matchAfterBrute[state(k, l)];
+                    k = candidates.start(m);
+                }
+                l--;
+            }
+            Collections.reverse(result);
+            return List.copyOf(result);
+        }
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    /**
+     * zxcvbn's uppercase variations: 1 for all lower case, 2 for a capitalised
+     * first or last letter or all upper case, otherwise the number of ways to
+     * place the upper-case letters.
+     */
+    private static double uppercaseVariationsLog10(CharSequence password, int start, int end) {
+        int upper = 0;
+        int lower = 0;
+        for (int i = start; i < end; i++) {
+            char c = password.charAt(i);
+            if (Character.isUpperCase(c)) {
+                upper++;
+            } else if (Character.isLowerCase(c)) {
+                lower++;
+            }
+        }
+        if (upper == 0) {
+            return 0;
+        }
+        boolean firstOnly = upper == 1 && Character.isUpperCase(password.charAt(start));
+        boolean lastOnly = upper == 1 && Character.isUpperCase(password.charAt(end - 1));
+        if (lower == 0 || firstOnly || lastOnly) {
+            return Math.log10(2);
+        }
+        double variations = 0;
+        for (int i = 1; i <= Math.min(upper, lower); i++) {
+            variations += binomial(upper + lower, i);
+        }
+        return Math.log10(variations);
+    }
+
+    /**
+     * zxcvbn's l33t variations: for every substituted character, 2 when all
+     * or none of its letter's occurrences are substituted, otherwise the
+     * number of ways to choose which are.
+     */
+    private static double leetVariationsLog10(CharSequence password, char[] variant, int start, int end) {
+        double result = 0;
+        for (int i = start; i < end; i++) {
+            char original = password.charAt(i);
+            if (variant[i] == original || indexOf(password, original, start, i) >= 0) {
+                continue;
+            }
+            char letter = variant[i];
+            int substituted = 0;
+            int unsubstituted = 0;
+            for (int j = start; j < end; j++) {
+                char c = password.charAt(j);
+                if (c == original && variant[j] == letter) {
+                    substituted++;
+                } else if (Character.toLowerCase(c) == letter) {
+                    unsubstituted++;
+                }
+            }
+            if (unsubstituted == 0) {
+                result += Math.log10(2);
+            } else {
+                double variations = 0;
+                for (int k = 1; k <= Math.min(substituted, unsubstituted); k++) {
+                    variations += binomial(substituted + unsubstituted, k);
+                }
+                result += Math.log10(variations);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSubstituted(CharSequence password, char[] variant, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (variant[i] != password.charAt(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(CharSequence password, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (password.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        double result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    private static double log10Factorial(int n) {
+        if (n < LOG10_FACTORIAL.length) {
+            return LOG10_FACTORIAL[n];
+        }
+        double result = LOG10_FACTORIAL[LOG10_FACTORIAL.length - 1];
+        for (int i = LOG10_FACTORIAL.length; i <= n; i++) {
+            result += Math.log10(i);
+        }
+        return result;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDateSeparator(char c) {
+        for (char separator : DATE_SEPARATORS) {
+            if (c == separator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int digitRunEnd(CharSequence password, int start, int maxDigits) {
+        int end = start;
+        while (end < password.length() && end - start < maxDigits && isAsciiDigit(password.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int parse(CharSequence password, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (password.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Candidate segments in primitive arrays, chained by end position.
+     */
+    private static final class Candidates {
+        private final int[] firstByEnd;
+        private int[] starts = new int[16];
+        private int[] nexts = new int[16];
+        private byte[] kinds = new byte[16];
+        private double[] guesses = new double[16];
+        private int size;
+        private boolean hasWord;
+        private boolean hasWholeWord;
+
+        Candidates(int length) {
+            firstByEnd = new int[length + 1];
+            Arrays.fill(firstByEnd, -1);
+        }
+
+        void add(Kind kind, int start, int end, double guessesLog10) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                nexts = Arrays.copyOf(nexts, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+                guesses = Arrays.copyOf(guesses, capacity);
+            }
+            starts[size] = start;
+            kinds[size] = (byte) kind.ordinal();
+            guesses[size] = guessesLog10;
+            nexts[size] = firstByEnd[end];
+            firstByEnd[end] = size++;
+            if (kind == Kind.DICTIONARY) {
+                hasWord = true;
+                hasWholeWord |= start == 0 && end == firstByEnd.length - 1;
+            }
+        }
+
+        /**
+         * Returns whether any dictionary word was added.
+         */
+        boolean hasWord() {
+            return hasWord;
+        }
+
+        /**
+         * Returns whether a dictionary word covering the whole password was
+         * added.
+         */
+        boolean hasWholeWord() {
+            return hasWholeWord;
+        }
+
+        int firstEndingAt(int end) {
+            return firstByEnd[end];
+        }
+
+        int next(int candidate) {
+            return nexts[candidate];
+        }
+
+        int start(int candidate) {
+            return starts[candidate];
+        }
+
+        Kind kind(int candidate) {
+            return KINDS[kinds[candidate]];
+        }
+
+        double guessesLog10(int candidate) {
+            return guesses[candidate];
+        }
+    }
+}
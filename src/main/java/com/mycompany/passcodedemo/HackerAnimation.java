@@ -0,0 +1,19 @@
+package com.mycompany.passcodedemo;
+
+import javax.swing.JComponent;
+
+/**
+ * Rendering backend of {@link HackerAnimationPanel}. Implementations are
+ * driven from the EDT.
+ */
+interface HackerAnimation {
+
+    /** The component that draws the animation. */
+    JComponent component();
+
+    /** Plays the clip from its current position. */
+    void play();
+
+    /** Pauses the clip on its first frame. */
+    void cueIdle();
+}
@@ -5,52 +5,46 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.net.URL;
 import javax.swing.JPanel;
 
-import javafx.application.Platform;
-import javafx.embed.swing.JFXPanel;
-import javafx.scene.Scene;
-import javafx.scene.control.Label;
-import javafx.scene.layout.StackPane;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaException;
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.media.MediaView;
-import javafx.util.Duration;
-
 /**
  * Hacker animation panel backed by the {@code hacker.mp4} video clip that ships
  * with the application resources. The panel exposes the same phase-based API as
  * the previous hand-drawn animation so that the rest of the UI can continue to
  * drive the narrative flow.
+ *
+ * <p>The {@value #ANIMATION_PROPERTY} system property picks the backend at
+ * startup: {@code video} (the default) plays the clip through JavaFX media,
+ * sharing one player via {@link HackerMediaService}; {@code sprite} plays a
+ * pre-decoded {@link SpriteSheet} with Java2D and never loads JavaFX. The
+ * sheet is read from the file named by {@value #SPRITES_PROPERTY}, or from
+ * the {@code hacker.pcsf} resource that the {@code compile-sprites} build
+ * profile bundles.</p>
  */
 public class HackerAnimationPanel extends JPanel {
 
-    private final JFXPanel fxPanel = new JFXPanel();
+    public static final String ANIMATION_PROPERTY = "passcode.animation";
+    public static final String SPRITES_PROPERTY = "passcode.animation.sprites";
 
-    private MediaPlayer mediaPlayer;
-    private volatile boolean mediaReady;
-    private Duration pendingSeek;
-    private Boolean pendingPlay;
+    private final HackerAnimation animation;
 
     public HackerAnimationPanel() {
         setOpaque(false);
         setLayout(new BorderLayout());
-        add(fxPanel, BorderLayout.CENTER);
-        Platform.runLater(this::initialiseMediaScene);
+        animation = createAnimation();
+        add(animation.component(), BorderLayout.CENTER);
     }
 
     public void showSnooping() {
-        cueIdlePose();
+        animation.cueIdle();
     }
 
     public void showAttempting() {
-        ensurePlaying();
+        animation.play();
     }
 
     public void showDefeated() {
-        ensurePlaying();
+        animation.play();
     }
 
     public void updateProgress(double progress) {
@@ -58,7 +52,7 @@ public class HackerAnimationPanel extends JPanel {
         // version keeps this hook to remain API compatible, even though the
         // supplied clip already encodes the visual progression.
         if (progress >= 1.0) {
-            cueIdlePose();
+            animation.cueIdle();
         }
     }
 
@@ -80,169 +74,11 @@ public class HackerAnimationPanel extends JPanel {
         g2.dispose();
     }
 
-    @Override
-    public void removeNotify() {
-        stopMedia();
-        super.removeNotify();
-    }
-
-    private void initialiseMediaScene() {
-        StackPane root = new StackPane();
-        root.setStyle("-fx-background-color: rgba(9,16,32,0.9); -fx-background-radius: 24;");
-        Scene scene = new Scene(root);
-        fxPanel.setScene(scene);
-
-        URL mediaUrl = getClass().getResource("/hacker.mp4");
-        if (mediaUrl == null) {
-            installFallbackMessage(root, "hacker.mp4 리소스를 찾을 수 없습니다.");
-            return;
-        }
-
-        try {
-            Media media = new Media(mediaUrl.toExternalForm());
-            mediaPlayer = new MediaPlayer(media);
-            mediaPlayer.setCycleCount(1);
-            mediaPlayer.setAutoPlay(false);
-            mediaPlayer.setOnReady(() -> {
-                mediaReady = true;
-                if (pendingSeek == null && pendingPlay == null) {
-                    pendingSeek = Duration.ZERO;
-                    pendingPlay = Boolean.FALSE;
-                }
-                applyPendingRequests();
-            });
-            mediaPlayer.setOnError(() -> handleMediaFailure(root));
-            mediaPlayer.setOnEndOfMedia(() -> {
-                MediaPlayer player = mediaPlayer;
-                if (player != null) {
-                    player.pause();
-                    player.seek(Duration.ZERO);
-                }
-            });
-
-            MediaView mediaView = new MediaView(mediaPlayer);
-            mediaView.setPreserveRatio(true);
-            mediaView.fitWidthProperty().bind(root.widthProperty());
-            mediaView.fitHeightProperty().bind(root.heightProperty());
-            root.getChildren().add(mediaView);
-        } catch (MediaException ex) {
-            handleMediaFailure(root);
-        }
-    }
-
-    private void installFallbackMessage(StackPane root, String message) {
-        Label label = new Label(message);
-        label.setStyle("-fx-text-fill: white; -fx-font-size: 16px;");
-        root.getChildren().setAll(label);
-    }
-
-    private void ensurePlaying() {
-        if (mediaPlayer == null) {
-            pendingPlay = Boolean.TRUE;
-            return;
-        }
-        if (!mediaReady) {
-            pendingPlay = Boolean.TRUE;
-            return;
-        }
-        Platform.runLater(() -> {
-            MediaPlayer.Status status = mediaPlayer.getStatus();
-            if (status == MediaPlayer.Status.STOPPED || status == MediaPlayer.Status.PAUSED
-                    || status == MediaPlayer.Status.READY) {
-                mediaPlayer.play();
-            }
-        });
-    }
-
-    private void restartFrom(Duration position) {
-        if (mediaPlayer == null || !mediaReady) {
-            pendingSeek = position;
-            pendingPlay = Boolean.TRUE;
-            return;
-        }
-        Platform.runLater(() -> {
-            mediaPlayer.seek(position);
-            mediaPlayer.play();
-        });
-    }
-
-    private void applyPendingRequests() {
-        Duration seekTarget = pendingSeek;
-        Boolean playRequest = pendingPlay;
-        pendingSeek = null;
-        pendingPlay = null;
-        if (seekTarget != null && !seekTarget.isUnknown()) {
-            Platform.runLater(() -> {
-                mediaPlayer.seek(seekTarget);
-                if (Boolean.TRUE.equals(playRequest)) {
-                    mediaPlayer.play();
-                } else if (Boolean.FALSE.equals(playRequest)) {
-                    mediaPlayer.pause();
-                }
-            });
-        } else if (playRequest != null) {
-            Platform.runLater(() -> {
-                if (Boolean.TRUE.equals(playRequest)) {
-                    if (mediaPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                        mediaPlayer.play();
-                    }
-                } else {
-                    mediaPlayer.pause();
-                }
-            });
-        }
-    }
-
-    private void stopMedia() {
-        if (mediaPlayer == null) {
-            return;
-        }
-        MediaPlayer player = mediaPlayer;
-        mediaPlayer = null;
-        mediaReady = false;
-        pendingSeek = null;
-        pendingPlay = null;
-        Platform.runLater(() -> {
-            player.stop();
-            player.dispose();
-        });
-    }
-
-    private void handleMediaFailure(StackPane root) {
-        MediaPlayer failedPlayer = mediaPlayer;
-        mediaPlayer = null;
-        mediaReady = false;
-        pendingSeek = null;
-        pendingPlay = null;
-        String errorDetails = null;
-        if (failedPlayer != null) {
-            try {
-                failedPlayer.stop();
-            } catch (IllegalStateException ignored) {
-                // If the player cannot stop due to its state we still dispose to release resources.
-            }
-            if (failedPlayer.getError() != null) {
-                errorDetails = failedPlayer.getError().getMessage();
-                failedPlayer.getError().printStackTrace();
-            }
-            failedPlayer.dispose();
-        }
-        if (errorDetails == null || errorDetails.isBlank()) {
-            installFallbackMessage(root, "해커 애니메이션을 재생할 수 없습니다.");
-        } else {
-            installFallbackMessage(root, "해커 애니메이션을 재생할 수 없습니다.\n" + errorDetails);
-        }
-    }
-
-    private void cueIdlePose() {
-        if (mediaPlayer == null || !mediaReady) {
-            pendingSeek = Duration.ZERO;
-            pendingPlay = Boolean.FALSE;
-            return;
+    private static HackerAnimation createAnimation() {
+        if ("sprite".equalsIgnoreCase(System.getProperty(ANIMATION_PROPERTY))) {
+            return SpriteHackerAnimation.load(System.getProperty(SPRITES_PROPERTY));
         }
-        Platform.runLater(() -> {
-            mediaPlayer.seek(Duration.ZERO);
-            mediaPlayer.pause();
-        });
+        // Only referenced here, so sprite mode never resolves the JavaFX classes.
+        return new VideoHackerAnimation();
     }
 }
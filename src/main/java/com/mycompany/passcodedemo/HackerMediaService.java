@@ -0,0 +1,204 @@
+package com.mycompany.passcodedemo;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.MediaView;
+import javafx.util.Duration;
+
+/**
+ * Owns the single {@link MediaPlayer} for {@code hacker.mp4}, shared by every
+ * {@link HackerAnimationPanel}.
+ *
+ * <p>The clip is decoded and pre-rolled to its first frame once, when
+ * {@link #preload()} is first called, and the player is never disposed while
+ * the application runs: panels attach a {@link MediaView} of it to their
+ * scene and detach again when they leave the screen, so showing a panel
+ * again costs no decoding or pipeline start-up. Playback requests made
+ * before the clip is ready are remembered and applied once it is.</p>
+ *
+ * <p>{@link #preload()}, {@link #play()} and {@link #cueIdle()} may be called
+ * from any thread once the JavaFX toolkit is running; {@link #attach} and
+ * {@link #detach} must run on the JavaFX application thread, which confines
+ * all other state.</p>
+ */
+final class HackerMediaService {
+
+    private static final HackerMediaService SHARED = new HackerMediaService();
+
+    private boolean loadStarted;
+    private MediaPlayer player;
+    private boolean ready;
+    private String failure;
+    private boolean playRequested;
+    private final List<StackPane> hosts = new ArrayList<>();
+
+    private HackerMediaService() {
+    }
+
+    static HackerMediaService shared() {
+        return SHARED;
+    }
+
+    /**
+     * Starts loading the clip unless that has already happened.
+     */
+    void preload() {
+        Platform.runLater(this::load);
+    }
+
+    /**
+     * Plays the clip from its current position.
+     */
+    void play() {
+        Platform.runLater(() -> {
+            playRequested = true;
+            applyRequest();
+        });
+    }
+
+    /**
+     * Pauses the clip on its first frame.
+     */
+    void cueIdle() {
+        Platform.runLater(() -> {
+            playRequested = false;
+            if (ready) {
+                player.seek(Duration.ZERO);
+            }
+            applyRequest();
+        });
+    }
+
+    /**
+     * Shows the clip, or the reason it cannot be played, in {@code host}.
+     */
+    void attach(StackPane host) {
+        if (hosts.contains(host)) {
+            return;
+        }
+        hosts.add(host);
+        load();
+        install(host);
+    }
+
+    /**
+     * Removes the clip from {@code host}, pausing playback when no host is
+     * left. The player itself stays loaded.
+     */
+    void detach(StackPane host) {
+        if (!hosts.remove(host)) {
+            return;
+        }
+        for (var node : host.getChildren()) {
+            if (node instanceof MediaView view) {
+                view.setMediaPlayer(null);
+            }
+        }
+        host.getChildren().clear();
+        if (hosts.isEmpty()) {
+            playRequested = false;
+            applyRequest();
+        }
+    }
+
+    private void load() {
+        if (loadStarted) {
+            return;
+        }
+        loadStarted = true;
+        // Panels come and go; the shared player must outlive the last one.
+        Platform.setImplicitExit(false);
+
+        URL mediaUrl = HackerMediaService.class.getResource("/hacker.mp4");
+        if (mediaUrl == null) {
+            fail("hacker.mp4 리소스를 찾을 수 없습니다.");
+            return;
+        }
+        try {
+            MediaPlayer loading = new MediaPlayer(new Media(mediaUrl.toExternalForm()));
+            loading.setCycleCount(1);
+            loading.setAutoPlay(false);
+            loading.setOnReady(() -> {
+                ready = true;
+                loading.seek(Duration.ZERO);
+                loading.pause();
+                applyRequest();
+            });
+            loading.setOnError(this::handleMediaFailure);
+            loading.setOnEndOfMedia(() -> {
+                playRequested = false;
+                loading.pause();
+                loading.seek(Duration.ZERO);
+            });
+            player = loading;
+        } catch (MediaException ex) {
+            fail("해커 애니메이션을 재생할 수 없습니다.\n" + ex.getMessage());
+        }
+    }
+
+    private void applyRequest() {
+        if (!ready) {
+            return;
+        }
+        if (playRequested) {
+            if (player.getStatus() != MediaPlayer.Status.PLAYING) {
+                player.play();
+            }
+        } else if (player.getStatus() == MediaPlayer.Status.PLAYING) {
+            player.pause();
+        }
+    }
+
+    private void install(StackPane host) {
+        if (failure != null) {
+            Label label = new Label(failure);
+            label.setStyle("-fx-text-fill: white; -fx-font-size: 16px;");
+            host.getChildren().setAll(label);
+        } else if (player != null) {
+            MediaView mediaView = new MediaView(player);
+            mediaView.setPreserveRatio(true);
+            mediaView.fitWidthProperty().bind(host.widthProperty());
+            mediaView.fitHeightProperty().bind(host.heightProperty());
+            host.getChildren().setAll(mediaView);
+        }
+    }
+
+    private void handleMediaFailure() {
+        MediaPlayer failedPlayer = player;
+        String errorDetails = null;
+        if (failedPlayer != null) {
+            try {
+                failedPlayer.stop();
+            } catch (IllegalStateException ignored) {
+                // If the player cannot stop due to its state we still dispose to release resources.
+            }
+            if (failedPlayer.getError() != null) {
+                errorDetails = failedPlayer.getError().getMessage();
+                failedPlayer.getError().printStackTrace();
+            }
+            failedPlayer.dispose();
+        }
+        if (errorDetails == null || errorDetails.isBlank()) {
+            fail("해커 애니메이션을 재생할 수 없습니다.");
+        } else {
+            fail("해커 애니메이션을 재생할 수 없습니다.\n" + errorDetails);
+        }
+    }
+
+    private void fail(String message) {
+        player = null;
+        ready = false;
+        failure = message;
+        for (StackPane host : hosts) {
+            install(host);
+        }
+    }
+}
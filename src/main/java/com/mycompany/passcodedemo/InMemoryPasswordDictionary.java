@@ -0,0 +1,112 @@
+package com.mycompany.passcodedemo;
+
+import java.util.Collection;
+
+/**
+ * Heap-resident {@link PasswordDictionary} backed by an open-addressing hash
+ * table. Candidates are hashed and compared character by character, so a
+ * lookup allocates nothing. The table is never written after construction
+ * and is published through final fields, so lookups are thread-safe.
+ */
+public final class InMemoryPasswordDictionary implements PasswordDictionary {
+
+    private final String[] entries;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private InMemoryPasswordDictionary(String[] entries, int[] hashes, int size) {
+        this.entries = entries;
+        this.hashes = hashes;
+        this.mask = entries.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Builds a dictionary from raw entries. Entries are trimmed and folded to
+     * lower case; blank and {@code null} entries are ignored.
+     */
+    public static InMemoryPasswordDictionary of(Collection<String> passwords) {
+        int capacity = Integer.highestOneBit(Math.max(4, passwords.size() * 2 - 1)) << 1;
+        String[] entries = new String[capacity];
+        int[] hashes = new int[capacity];
+        int size = 0;
+        for (String password : passwords) {
+            if (password == null) {
+                continue;
+            }
+            String normalized = fold(password.trim());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            int hash = hash(normalized);
+            int slot = hash & (capacity - 1);
+            while (entries[slot] != null) {
+                if (hashes[slot] == hash && entries[slot].equals(normalized)) {
+                    break;
+                }
+                slot = (slot + 1) & (capacity - 1);
+            }
+            if (entries[slot] == null) {
+                entries[slot] = normalized;
+                hashes[slot] = hash;
+                size++;
+            }
+        }
+        return new InMemoryPasswordDictionary(entries, hashes, size);
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        if (password == null || password.length() == 0) {
+            return false;
+        }
+        int hash = hash(password);
+        int slot = hash & mask;
+        String entry;
+        while ((entry = entries[slot]) != null) {
+            if (hashes[slot] == hash && matches(entry, password)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static boolean matches(String entry, CharSequence candidate) {
+        int length = entry.length();
+        if (length != candidate.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (entry.charAt(i) != Character.toLowerCase(candidate.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static int hash(CharSequence value) {
+        int hash = 0x811C9DC5;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash = (hash ^ Character.toLowerCase(value.charAt(i))) * 0x01000193;
+        }
+        // Spread the FNV result so that the low bits used for slot selection are well mixed.
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+}
@@ -0,0 +1,173 @@
+package com.mycompany.passcodedemo;
+
+import java.util.Arrays;
+
+/**
+ * Physical key adjacency of a keyboard, precomputed into primitive arrays so
+ * that keyboard-walk detection costs a couple of array reads per character.
+ *
+ * <p>Rows are given from top to bottom as space-separated keys. Each key lists
+ * the characters it produces, alternating unshifted and shifted, so
+ * {@code "qQ"} is one key and a layout sharing key positions with another
+ * script can simply append its characters, as {@code "qQㅂㅃ"} does. Every
+ * row after the first is offset half a key to the right, as on a standard
+ * staggered keyboard; each key then has up to six neighbours. Layouts are
+ * immutable and thread-safe.</p>
+ */
+final class KeyboardLayout {
+
+    /** US QWERTY, printable keys only. */
+    static final KeyboardLayout QWERTY = new KeyboardLayout(
+            "`~ 1! 2@ 3# 4$ 5% 6^ 7& 8* 9( 0) -_ =+",
+            "qQ wW eE rR tT yY uU iI oO pP [{ ]} \\|",
+            "aA sS dD fF gG hH jJ kK lL ;: '\"",
+            "zZ xX cC vV bB nN mM ,< .> /?");
+
+    /**
+     * QWERTY with the Korean 2-beolsik (두벌식) jamo on the same keys, so that
+     * {@code ㅂㅈㄷㄱ} walks the same keys as {@code qwer}.
+     */
+    static final KeyboardLayout QWERTY_DUBEOLSIK = new KeyboardLayout(
+            "`~ 1! 2@ 3# 4$ 5% 6^ 7& 8* 9( 0) -_ =+",
+            "qQㅂㅃ wWㅈㅉ eEㄷㄸ rRㄱㄲ tTㅅㅆ yYㅛ uUㅕ iIㅑ oOㅐㅒ pPㅔㅖ [{ ]} \\|",
+            "aAㅁ sSㄴ dDㅇ fFㄹ gGㅎ hHㅗ jJㅓ kKㅏ lLㅣ ;: '\"",
+            "zZㅋ xXㅌ cCㅊ vVㅍ bBㅠ nNㅜ mMㅡ ,< .> /?");
+
+    private static final int DIRECTIONS = 6;
+    private static final int NONE = -1;
+
+    /** Key code ({@code key << 1 | shifted}) of every ASCII character, {@link #NONE} if absent. */
+    private final int[] asciiCodes = new int[128];
+    /** Non-ASCII characters, sorted, with their key codes in {@link #otherCodes}. */
+    private final char[] otherChars;
+    private final int[] otherCodes;
+    /** Neighbouring key per key and direction, {@link #NONE} at the edges. */
+    private final int[] neighbors;
+    private final int keyCount;
+    private final double averageDegree;
+
+    KeyboardLayout(String... rows) {
+        Arrays.fill(asciiCodes, NONE);
+        int[][] grid = new int[rows.length][];
+        int keys = 0;
+        StringBuilder others = new StringBuilder();
+        int[] otherCodeList = new int[16];
+        for (int r = 0; r < rows.length; r++) {
+            String[] tokens = rows[r].split(" ");
+            int offset = r == 0 ? 0 : 1;
+            grid[r] = new int[tokens.length + offset];
+            Arrays.fill(grid[r], NONE);
+            for (int k = 0; k < tokens.length; k++) {
+                int key = keys++;
+                grid[r][k + offset] = key;
+                String token = tokens[k];
+                for (int i = 0; i < token.length(); i++) {
+                    char c = token.charAt(i);
+                    int code = key << 1 | (i & 1);
+                    if (c < 128) {
+                        if (asciiCodes[c] == NONE) {
+                            asciiCodes[c] = code;
+                        }
+                    } else if (others.indexOf(String.valueOf(c)) < 0) {
+                        if (others.length() == otherCodeList.length) {
+                            otherCodeList = Arrays.copyOf(otherCodeList, otherCodeList.length * 2);
+                        }
+                        otherCodeList[others.length()] = code;
+                        others.append(c);
+                    }
+                }
+            }
+        }
+
+        Integer[] order = new Integer[others.length()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Character.compare(others.charAt(a), others.charAt(b)));
+        otherChars = new char[order.length];
+        otherCodes = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            otherChars[i] = others.charAt(order[i]);
+            otherCodes[i] = otherCodeList[order[i]];
+        }
+
+        keyCount = keys;
+        neighbors = new int[keys * DIRECTIONS];
+        int edges = 0;
+        for (int r = 0; r < grid.length; r++) {
+            for (int x = 0; x < grid[r].length; x++) {
+                int key = grid[r][x];
+                if (key == NONE) {
+                    continue;
+                }
+                int[] adjacent = {
+                    at(grid, r, x - 1), at(grid, r, x + 1),
+                    at(grid, r - 1, x), at(grid, r - 1, x + 1),
+                    at(grid, r + 1, x - 1), at(grid, r + 1, x)
+                };
+                for (int d = 0; d < DIRECTIONS; d++) {
+                    neighbors[key * DIRECTIONS + d] = adjacent[d];
+                    if (adjacent[d] != NONE) {
+                        edges++;
+                    }
+                }
+            }
+        }
+        averageDegree = keys == 0 ? 0 : (double) edges / keys;
+    }
+
+    /**
+     * Returns the number of keys, i.e. possible starting positions of a walk.
+     */
+    int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the average number of neighbours per key.
+     */
+    double averageDegree() {
+        return averageDegree;
+    }
+
+    /**
+     * Returns the key code of {@code c}, or a negative value when the layout
+     * does not produce it.
+     */
+    int code(char c) {
+        if (c < 128) {
+            return asciiCodes[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index < 0 ? NONE : otherCodes[index];
+    }
+
+    static boolean isShifted(int code) {
+        return (code & 1) != 0;
+    }
+
+    /**
+     * Returns the direction from the key of {@code fromCode} to the key of
+     * {@code toCode}, or a negative value when they are not adjacent.
+     */
+    int direction(int fromCode, int toCode) {
+        if (fromCode < 0 || toCode < 0) {
+            return NONE;
+        }
+        int base = (fromCode >> 1) * DIRECTIONS;
+        int to = toCode >> 1;
+        for (int d = 0; d < DIRECTIONS; d++) {
+            if (neighbors[base + d] == to) {
+                return d;
+            }
+        }
+        return NONE;
+    }
+
+    private static int at(int[][] grid, int r, int x) {
+        if (r < 0 || r >= grid.length || x < 0 || x >= grid[r].length) {
+            return NONE;
+        }
+        return grid[r][x];
+    }
+}
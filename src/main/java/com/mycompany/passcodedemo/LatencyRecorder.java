@@ -0,0 +1,91 @@
+package com.mycompany.passcodedemo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram for percentile reporting.
+ *
+ * <p>Latencies are recorded in microseconds into log-linear buckets: each
+ * power of two is split into {@value #SUB_BUCKETS} equal buckets, so a
+ * reported percentile is within about 6% of the true value. Recording is a
+ * single atomic increment and allocates nothing; snapshots taken while
+ * threads record are approximate but never torn per bucket.</p>
+ */
+final class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Covers up to 2^40 microseconds, far beyond any request timeout. */
+    private static final int MAGNITUDES = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAGNITUDES + 1) * SUB_BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+
+    /**
+     * Percentiles of the recorded latencies, in microseconds.
+     */
+    record Snapshot(long count, double meanMicros, long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+    }
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(bucket(micros));
+        totalMicros.add(micros);
+    }
+
+    Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long count = 0;
+        int highest = -1;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+            if (copy[i] != 0) {
+                highest = i;
+            }
+        }
+        if (count == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0);
+        }
+        return new Snapshot(count, (double) totalMicros.sum() / count, percentile(copy, count, 0.50),
+                percentile(copy, count, 0.90), percentile(copy, count, 0.99), upperBound(highest));
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    /**
+     * Values below {@link #SUB_BUCKETS} get a bucket each; above that, the
+     * top {@link #SUB_BUCKET_BITS} bits after the leading one pick the bucket.
+     */
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS + 1;
+        if (magnitude > MAGNITUDES) {
+            return (MAGNITUDES + 1) * SUB_BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (magnitude - 1)) & (SUB_BUCKETS - 1);
+        return magnitude * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        int magnitude = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        if (magnitude == 0) {
+            return sub;
+        }
+        return ((long) (SUB_BUCKETS + sub + 1) << (magnitude - 1)) - 1;
+    }
+}
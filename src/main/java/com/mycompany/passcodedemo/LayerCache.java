@@ -0,0 +1,111 @@
+package com.mycompany.passcodedemo;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered copy of a component's static decoration.
+ *
+ * <p>The layer is rasterised once into a translucent image compatible with
+ * the screen, at device resolution so HiDPI output stays sharp, and then
+ * blitted pixel for pixel on every repaint. It is re-rendered only when the
+ * component size, the caller's scale key or the device scale of the
+ * destination changes. Compatible images are managed by Java2D, which keeps
+ * an accelerated copy and restores it when video memory is lost.</p>
+ *
+ * <p>Every size change allocates a new image, so the cache suits panels with
+ * expensive decoration and a mostly stable size. It does not suit cheap
+ * layers that track the window size.</p>
+ *
+ * <p>Confined to the EDT, like the component that owns it.</p>
+ */
+final class LayerCache {
+
+    /**
+     * Draws the layer in component coordinates.
+     */
+    @FunctionalInterface
+    interface Painter {
+        void paint(Graphics2D g2, int width, int height);
+    }
+
+    private final Painter painter;
+    private BufferedImage image;
+    private int width;
+    private int height;
+    private float scaleKey;
+    private double deviceScaleX;
+    private double deviceScaleY;
+
+    LayerCache(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Paints the layer for a {@code width} by {@code height} component,
+     * re-rendering it first when anything it depends on has changed.
+     * {@code scaleKey} stands for any other input of the painter, such as a
+     * responsive scale factor.
+     */
+    void paint(Graphics g, int width, int height, float scaleKey) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            AffineTransform transform = g2.getTransform();
+            if ((transform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0
+                    || transform.getScaleX() <= 0 || transform.getScaleY() <= 0) {
+                // Rotated or mirrored output cannot be served pixel for pixel; draw the vectors.
+                painter.paint(g2, width, height);
+                return;
+            }
+            double scaleX = transform.getScaleX();
+            double scaleY = transform.getScaleY();
+            if (image == null || width != this.width || height != this.height || scaleKey != this.scaleKey
+                    || scaleX != deviceScaleX || scaleY != deviceScaleY) {
+                render(g2, width, height, scaleKey, scaleX, scaleY);
+            }
+            // Blit in device space so the image is neither rescaled nor filtered.
+            g2.setTransform(AffineTransform.getTranslateInstance(
+                    Math.round(transform.getTranslateX()), Math.round(transform.getTranslateY())));
+            g2.drawImage(image, 0, 0, null);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Drops the cached image, e.g. when the painter's colours change.
+     */
+    void invalidate() {
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+    }
+
+    private void render(Graphics2D destination, int width, int height, float scaleKey, double scaleX,
+            double scaleY) {
+        invalidate();
+        int pixelWidth = (int) Math.ceil(width * scaleX);
+        int pixelHeight = (int) Math.ceil(height * scaleY);
+        image = destination.getDeviceConfiguration()
+                .createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+        Graphics2D layer = image.createGraphics();
+        try {
+            layer.scale(scaleX, scaleY);
+            painter.paint(layer, width, height);
+        } finally {
+            layer.dispose();
+        }
+        this.width = width;
+        this.height = height;
+        this.scaleKey = scaleKey;
+        this.deviceScaleX = scaleX;
+        this.deviceScaleY = scaleY;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mycompany.passcodedemo;
+
+/**
+ * Undoes l33t-speak substitutions such as {@code p@ssw0rd}, so that the
+ * result can be looked up in a dictionary.
+ *
+ * <p>The substitution table is precomputed into arrays indexed by ASCII
+ * code. Like zxcvbn, every occurrence of a substituted character is mapped
+ * the same way within one variant, and a character may also be left as it
+ * is. Variants are enumerated most-substituted first and capped at
+ * {@link #MAX_VARIANTS}, so the work per password is bounded however many
+ * substitutable characters it contains. The tables are read-only after
+ * class initialisation; each enumeration works on its own arrays.</p>
+ */
+final class LeetSubstitutions {
+
+    /** Upper bound on the variants produced for one password. */
+    static final int MAX_VARIANTS = 32;
+
+    /** Distinct substitutable characters considered per password; further ones are left alone. */
+    private static final int MAX_DISTINCT = 8;
+
+    /** {@code LETTERS[OFFSETS[c]] .. LETTERS[OFFSETS[c + 1] - 1]} are the letters {@code c} may stand for. */
+    private static final int[] OFFSETS = new int[129];
+    private static final char[] LETTERS;
+
+    static {
+        String[][] table = {
+            {"4", "a"}, {"@", "a"}, {"8", "b"}, {"(", "c"}, {"{", "c"}, {"[", "c"}, {"<", "c"},
+            {"3", "e"}, {"6", "g"}, {"9", "g"}, {"1", "il"}, {"!", "i"}, {"|", "il"}, {"0", "o"},
+            {"$", "s"}, {"5", "s"}, {"7", "lt"}, {"+", "t"}, {"%", "x"}, {"2", "z"}
+        };
+        String[] letters = new String[128];
+        int total = 0;
+        for (String[] row : table) {
+            letters[row[0].charAt(0)] = row[1];
+            total += row[1].length();
+        }
+        LETTERS = new char[total];
+        int at = 0;
+        for (int c = 0; c < 128; c++) {
+            OFFSETS[c] = at;
+            if (letters[c] != null) {
+                for (int i = 0; i < letters[c].length(); i++) {
+                    LETTERS[at++] = letters[c].charAt(i);
+                }
+            }
+        }
+        OFFSETS[128] = at;
+    }
+
+    /**
+     * Receives l33t variants of a password.
+     */
+    @FunctionalInterface
+    interface VariantConsumer {
+
+        /**
+         * Called with a variant of the same length as the password. The
+         * array is reused for the next variant.
+         *
+         * @return {@code false} to stop the enumeration
+         */
+        boolean accept(char[] variant);
+    }
+
+    private LeetSubstitutions() {
+    }
+
+    /**
+     * Returns whether {@code c} can stand for a letter.
+     */
+    static boolean isSubstitutable(char c) {
+        return c < 128 && OFFSETS[c] != OFFSETS[c + 1];
+    }
+
+    /**
+     * Returns how many letters {@code c} can stand for.
+     */
+    static int optionCount(char c) {
+        return c < 128 ? OFFSETS[c + 1] - OFFSETS[c] : 0;
+    }
+
+    /**
+     * Returns the letter {@code c} stands for under option {@code option}.
+     */
+    static char letter(char c, int option) {
+        return LETTERS[OFFSETS[c] + option];
+    }
+
+    /**
+     * Enumerates variants of {@code password} with at least one substitution
+     * applied, up to {@link #MAX_VARIANTS} of them.
+     *
+     * @return the number of variants passed to {@code consumer}
+     */
+    static int forEachVariant(CharSequence password, VariantConsumer consumer) {
+        int length = password.length();
+        char[] distinct = new char[MAX_DISTINCT];
+        int distinctCount = 0;
+        for (int i = 0; i < length && distinctCount < MAX_DISTINCT; i++) {
+            char c = password.charAt(i);
+            if (isSubstitutable(c) && indexOf(distinct, distinctCount, c) < 0) {
+                distinct[distinctCount++] = c;
+            }
+        }
+        if (distinctCount == 0) {
+            return 0;
+        }
+
+        // Mixed-radix counter: digit d < optionCount selects a letter, d == optionCount keeps the character.
+        int[] digits = new int[distinctCount];
+        char[] variant = new char[length];
+        int produced = 0;
+        while (produced < MAX_VARIANTS) {
+            boolean substituted = false;
+            for (int i = 0; i < length; i++) {
+                char c = password.charAt(i);
+                int slot = isSubstitutable(c) ? indexOf(distinct, distinctCount, c) : -1;
+                if (slot >= 0 && digits[slot] < optionCount(c)) {
+                    variant[i] = letter(c, digits[slot]);
+                    substituted = true;
+                } else {
+                    variant[i] = c;
+                }
+            }
+            if (!substituted) {
+                break; // Only the identity is left.
+            }
+            produced++;
+            if (!consumer.accept(variant)) {
+                break;
+            }
+            int d = 0;
+            while (d < distinctCount && ++digits[d] > optionCount(distinct[d])) {
+                digits[d++] = 0;
+            }
+            if (d == distinctCount) {
+                break;
+            }
+        }
+        return produced;
+    }
+
+    private static int indexOf(char[] values, int count, char c) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,228 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PasswordDictionary} whose contents are loaded, and later reloaded,
+ * in the background, so that callers such as the UI can start before a large
+ * wordlist is ready and pick up refreshed lists without restarting.
+ *
+ * <p>Every load builds a complete dictionary off-thread and then publishes it
+ * with a single volatile reference write. Concurrent lookups therefore never
+ * block and always see either the previous or the new dictionary in full.
+ * Loads run one at a time in submission order, so a slow earlier load cannot
+ * overwrite a newer one.</p>
+ *
+ * <p>Until the first load completes the dictionary is empty and reports
+ * {@link #isReady()} as {@code false}, which the checker surfaces as a
+ * pending analysis. If the first load fails the dictionary stays empty but
+ * becomes ready, so analyses are not marked pending forever; if a later
+ * reload fails the previous contents stay in place.</p>
+ */
+public final class LivePasswordDictionary implements PasswordDictionary {
+
+    /**
+     * Loading state of the dictionary.
+     */
+    public enum State {
+        LOADING,
+        READY,
+        FAILED
+    }
+
+    private static final PasswordDictionary EMPTY = InMemoryPasswordDictionary.of(Set.of());
+    private static final long WATCH_SETTLE_MILLIS = 500;
+
+    private final ThreadPoolExecutor loader;
+    private final CompletableFuture<PasswordDictionary> firstLoad = new CompletableFuture<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private volatile PasswordDictionary current = EMPTY;
+    private volatile State state = State.LOADING;
+    private volatile Throwable failure;
+    private volatile long generation;
+
+    /**
+     * Creates an empty dictionary in the {@link State#LOADING} state. Call
+     * {@link #reload(Callable)} to load its contents.
+     */
+    public LivePasswordDictionary() {
+        loader = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "dictionary-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts loading a dictionary on a background daemon thread and returns
+     * immediately.
+     */
+    public static LivePasswordDictionary loadAsync(Callable<? extends PasswordDictionary> source) {
+        LivePasswordDictionary dictionary = new LivePasswordDictionary();
+        dictionary.reload(source);
+        return dictionary;
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        return current.contains(password);
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public void forEachEmbeddedWord(CharSequence password, EmbeddedWordConsumer consumer) {
+        current.forEachEmbeddedWord(password, consumer);
+    }
+
+    @Override
+    public boolean containsEmbeddedWord(CharSequence password) {
+        return current.containsEmbeddedWord(password);
+    }
+
+    @Override
+    public boolean isReady() {
+        return state != State.LOADING;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Returns why the most recent load failed, or {@code null} when it succeeded.
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * Returns how many times new contents have been published. Useful for
+     * discarding results derived from an older dictionary.
+     */
+    @Override
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Returns a future that completes with the first loaded dictionary, or
+     * exceptionally when the first load fails.
+     */
+    public CompletableFuture<PasswordDictionary> whenLoaded() {
+        return firstLoad.copy();
+    }
+
+    /**
+     * Registers a listener that runs on the loader thread after every load
+     * attempt, successful or not.
+     */
+    public void addChangeListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Builds a new dictionary from {@code source} in the background and
+     * atomically swaps it in once complete.
+     *
+     * @return a future completing with the published dictionary, or
+     *         exceptionally when {@code source} fails
+     */
+    public CompletableFuture<PasswordDictionary> reload(Callable<? extends PasswordDictionary> source) {
+        CompletableFuture<PasswordDictionary> result = new CompletableFuture<>();
+        loader.execute(() -> load(source, result));
+        return result;
+    }
+
+    /**
+     * Watches {@code file} and reloads from {@code source} whenever it is
+     * created or modified. Bursts of events are coalesced, so a file written
+     * in several steps triggers one reload after it settles.
+     *
+     * @return a handle that stops watching when closed
+     * @throws IOException when the parent directory cannot be watched
+     */
+    public AutoCloseable watch(Path file, Callable<? extends PasswordDictionary> source) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path directory = absolute.getParent();
+        Path name = absolute.getFileName();
+        WatchService watcher = FileSystems.getDefault().newWatchService();
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watcher.take();
+                    boolean changed = drain(key, name);
+                    // Keep collecting until the file has been quiet for a moment.
+                    while ((key = watcher.poll(WATCH_SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                        changed |= drain(key, name);
+                    }
+                    if (changed) {
+                        reload(source);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException ex) {
+                // Closed through the returned handle.
+            }
+        }, "dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher::close;
+    }
+
+    private static boolean drain(WatchKey key, Path name) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void load(Callable<? extends PasswordDictionary> source, CompletableFuture<PasswordDictionary> result) {
+        try {
+            PasswordDictionary dictionary = source.call();
+            current = dictionary;
+            generation++;
+            failure = null;
+            state = State.READY;
+            firstLoad.complete(dictionary);
+            result.complete(dictionary);
+        } catch (Throwable ex) {
+            failure = ex;
+            if (state == State.LOADING) {
+                state = State.FAILED;
+            }
+            firstLoad.completeExceptionally(new CompletionException(ex));
+            result.completeExceptionally(ex);
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+}
@@ -11,14 +11,14 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.RenderingHints;
-import java.awt.Toolkit;
 import java.awt.im.InputContext;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -27,8 +27,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -47,14 +49,10 @@ import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.JButton;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import javax.swing.Timer;
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.LineUnavailableException;
 
 /**
  * Main user interface frame that lets the user experiment with password
@@ -64,29 +62,53 @@ public class MainFrame extends JFrame {
 
     private static final DateTimeFormatter BIRTHDATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+    private static final int LIVE_FEEDBACK_DEBOUNCE_MILLIS = 120;
+    /** One frame at 60 fps: window drags re-scale the layout at most this often. */
+    private static final int RESIZE_COALESCE_MILLIS = 16;
+    /** Responsive scales are rounded to steps of 1/{@value} so small drags reuse fonts. */
+    private static final int SCALE_BUCKETS_PER_UNIT = 40;
 
+    private final LivePasswordDictionary dictionary;
     private final PasswordStrengthChecker checker;
     private final JTextArea feedbackArea = new JTextArea();
+    private final JLabel dictionaryStatusLabel = new JLabel("", SwingConstants.LEFT);
     private final JProgressBar strengthBar = new JProgressBar(0, 100);
     private final JPasswordField passwordField = new JPasswordField(24);
     private final Map<JComponent, Font> baseFonts = new HashMap<>();
+    /** Derived fonts per scale bucket, keyed by base font. */
+    private final Map<Integer, Map<Font, Font>> scaledFonts = new HashMap<>();
+    private final Timer resizeCoalescer = new Timer(RESIZE_COALESCE_MILLIS, e -> applyResponsiveScale());
+    private int appliedScaleBucket = -1;
+    private final ExecutorService liveFeedbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer liveFeedbackDebounce = new Timer(LIVE_FEEDBACK_DEBOUNCE_MILLIS, e -> submitLiveFeedback());
     private final HackerAnimationPanel hackerAnimationPanel = new HackerAnimationPanel();
     private final SecurityIllustrationPanel illustrationPanel = new SecurityIllustrationPanel();
+    private final SuspenseAudio suspenseAudio = new SuspenseAudio();
     private Timer analysisTimer;
     private Timer resetTimer;
-    private Clip suspenseClip;
+    private Future<?> liveFeedbackTask;
+    private long liveFeedbackGeneration;
     private boolean suppressLiveFeedback;
     private boolean defeatAnimationShown;
-    private UserProfile userProfile;
+    private boolean dictionaryFailureReported;
+    private PersonalInfoMatcher personalInfoMatcher = PersonalInfoMatcher.none();
 
     public MainFrame() {
         super("패스코드 데모");
-        this.checker = createChecker();
+        this.dictionary = new LivePasswordDictionary();
+        this.checker = new PasswordStrengthChecker(dictionary, AnalysisCache.fromSystemProperties());
+        liveFeedbackDebounce.setRepeats(false);
+        resizeCoalescer.setRepeats(false);
         configureWindow();
         add(buildContent());
         installResponsiveBehavior();
         applyResponsiveScale();
-        updateFeedback("");
+        updateDictionaryStatus();
+        resetLiveFeedback();
+        // The dictionary loads off the EDT; analyses run meanwhile are marked pending.
+        dictionary.addChangeListener(() -> SwingUtilities.invokeLater(this::handleDictionaryChanged));
+        dictionary.reload(DictionaryLoader::loadCommonPasswordDictionary);
+        watchConfiguredDictionary();
     }
 
     private void configureWindow() {
@@ -97,15 +119,54 @@ public class MainFrame extends JFrame {
         setLayout(new BorderLayout());
     }
 
-    private PasswordStrengthChecker createChecker() {
+    @Override
+    public void dispose() {
+        suspenseAudio.close();
+        super.dispose();
+    }
+
+    private void watchConfiguredDictionary() {
+        Path file = DictionaryLoader.configuredDictionaryFile();
+        if (file == null) {
+            return;
+        }
         try {
-            Set<String> dictionary = DictionaryLoader.loadCommonPasswords();
-            return new PasswordStrengthChecker(dictionary);
+            dictionary.watch(file, () -> DictionaryLoader.openCompactDictionary(file));
         } catch (IOException ex) {
+            // Hot reload is a convenience; the dictionary loaded at startup keeps working.
+            System.err.println("Cannot watch dictionary " + file + ": " + ex.getMessage());
+        }
+    }
+
+    private void handleDictionaryChanged() {
+        updateDictionaryStatus();
+        if (dictionary.state() == LivePasswordDictionary.State.FAILED && !dictionaryFailureReported) {
+            dictionaryFailureReported = true;
+            Throwable failure = dictionary.failure();
             JOptionPane.showMessageDialog(this,
-                    "공통 비밀번호 목록을 불러오지 못했습니다. 강도 분석이 제한됩니다.\n" + ex.getMessage(),
+                    "공통 비밀번호 목록을 불러오지 못했습니다. 강도 분석이 제한됩니다.\n"
+                    + (failure == null ? "" : failure.getMessage()),
                     "사전 로드 오류", JOptionPane.ERROR_MESSAGE);
-            return new PasswordStrengthChecker(Set.of());
+        }
+        // A running animation re-scores when it finishes; otherwise refresh what is on screen.
+        if (analysisTimer == null) {
+            rescoreDisplayedPassword();
+        }
+    }
+
+    private void updateDictionaryStatus() {
+        switch (dictionary.state()) {
+            case LOADING -> dictionaryStatusLabel.setText("📚 흔한 비밀번호 사전을 불러오는 중입니다...");
+            case READY -> dictionaryStatusLabel.setText(dictionary.failure() == null
+                    ? "📚 흔한 비밀번호 사전 준비 완료 (" + dictionary.size() + "개)"
+                    : "⚠️ 사전 갱신에 실패해 이전 사전(" + dictionary.size() + "개)을 계속 사용합니다.");
+            case FAILED -> dictionaryStatusLabel.setText("⚠️ 흔한 비밀번호 사전을 불러오지 못했습니다.");
+        }
+    }
+
+    private void rescoreDisplayedPassword() {
+        if (passwordField.getDocument().getLength() > 0) {
+            submitLiveFeedback();
         }
     }
 
@@ -201,21 +262,21 @@ public class MainFrame extends JFrame {
             @Override
             public void insertUpdate(DocumentEvent e) {
                 if (!suppressLiveFeedback) {
-                    updateFeedback(new String(passwordField.getPassword()));
+                    refreshLiveFeedback();
                 }
             }
 
             @Override
             public void removeUpdate(DocumentEvent e) {
                 if (!suppressLiveFeedback) {
-                    updateFeedback(new String(passwordField.getPassword()));
+                    refreshLiveFeedback();
                 }
             }
 
             @Override
             public void changedUpdate(DocumentEvent e) {
                 if (!suppressLiveFeedback) {
-                    updateFeedback(new String(passwordField.getPassword()));
+                    refreshLiveFeedback();
                 }
             }
         });
@@ -260,6 +321,12 @@ public class MainFrame extends JFrame {
         rememberFont(hintLabel);
         card.add(hintLabel, gbc);
 
+        gbc.gridy++;
+        dictionaryStatusLabel.setForeground(new Color(60, 80, 120));
+        dictionaryStatusLabel.setFont(dictionaryStatusLabel.getFont().deriveFont(Font.PLAIN, 13f));
+        rememberFont(dictionaryStatusLabel);
+        card.add(dictionaryStatusLabel, gbc);
+
         wrapper.add(card, BorderLayout.CENTER);
         return wrapper;
     }
@@ -283,12 +350,12 @@ public class MainFrame extends JFrame {
 
     private void clearExistingUserInputs() {
         stopResetCycle();
-        userProfile = null;
+        personalInfoMatcher = PersonalInfoMatcher.none();
         stopAnalysisAnimation();
         suppressLiveFeedback = true;
         passwordField.setText("");
         suppressLiveFeedback = false;
-        updateFeedback("");
+        resetLiveFeedback();
     }
 
     private void showRegistrationDialog() {
@@ -411,24 +478,23 @@ public class MainFrame extends JFrame {
 
             char[] passwordChars = passwordInput.getPassword();
             char[] confirmChars = confirmInput.getPassword();
-            String password = new String(passwordChars);
-            String confirm = new String(confirmChars);
 
-            if (password.isEmpty()) {
+            if (passwordChars.length == 0) {
                 errors.add("비밀번호를 입력해주세요.");
             }
 
-            if (!password.equals(confirm)) {
+            if (!Arrays.equals(passwordChars, confirmChars)) {
                 errors.add("비밀번호와 비밀번호 확인이 일치하지 않습니다.");
             }
 
             if (errors.isEmpty()) {
-                userProfile = new UserProfile(name, email, birthDate, password);
+                personalInfoMatcher = PersonalInfoMatcher.compile(new UserProfile(name, email, birthDate));
                 suppressLiveFeedback = true;
-                passwordField.setText(password);
+                // JPasswordField only accepts a String; it is dropped straight after.
+                passwordField.setText(new String(passwordChars));
                 suppressLiveFeedback = false;
                 dialog.dispose();
-                startAnimatedAnalysis(password);
+                startAnimatedAnalysis(passwordChars);
             } else {
                 JOptionPane.showMessageDialog(dialog,
                         String.join("\n", errors),
@@ -515,6 +581,12 @@ public class MainFrame extends JFrame {
         return wrapper;
     }
 
+    /**
+     * Translucent card. Drawn directly rather than through a
+     * {@link LayerCache}, like {@link GradientPanel}: cards resize with the
+     * window, and one rounded fill and stroke cost less than re-rendering an
+     * image of the whole card on every resize.
+     */
     private JPanel createGlassPanel() {
         return new JPanel() {
             {
@@ -539,14 +611,71 @@ public class MainFrame extends JFrame {
         };
     }
 
-    private void updateFeedback(String password) {
+    /**
+     * Reacts to a keystroke. The analysis itself is debounced and runs off
+     * the EDT, see {@link #submitLiveFeedback()}.
+     */
+    private void refreshLiveFeedback() {
         stopAnalysisAnimation();
-        if (password == null || password.isBlank()) {
+        cancelLiveFeedback();
+        if (passwordField.getDocument().getLength() == 0) {
             showInitialNarrative();
             return;
         }
-        PasswordStrengthChecker.Analysis analysis = checker.analyze(password);
-        applyAnalysisResult(analysis, password);
+        liveFeedbackDebounce.restart();
+    }
+
+    private void resetLiveFeedback() {
+        stopAnalysisAnimation();
+        cancelLiveFeedback();
+        showInitialNarrative();
+    }
+
+    /**
+     * Discards any scheduled or running live analysis. Results of a task that
+     * is already running are dropped when they reach the EDT.
+     */
+    private void cancelLiveFeedback() {
+        liveFeedbackDebounce.stop();
+        liveFeedbackGeneration++;
+        if (liveFeedbackTask != null) {
+            liveFeedbackTask.cancel(true);
+            liveFeedbackTask = null;
+        }
+    }
+
+    /**
+     * Analyses the current password field contents on a virtual thread and
+     * publishes the result to the EDT, unless a newer request superseded it
+     * in the meantime.
+     */
+    private void submitLiveFeedback() {
+        cancelLiveFeedback();
+        char[] password = passwordField.getPassword();
+        if (isBlank(CharBuffer.wrap(password))) {
+            Arrays.fill(password, '\0');
+            showInitialNarrative();
+            return;
+        }
+        long generation = liveFeedbackGeneration;
+        PersonalInfoMatcher matcher = personalInfoMatcher;
+        liveFeedbackTask = liveFeedbackExecutor.submit(() -> {
+            try {
+                PasswordStrengthChecker.Analysis analysis = checker.analyze(password);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                String feedback = describeAnalysis(analysis, CharBuffer.wrap(password), matcher);
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == liveFeedbackGeneration) {
+                        liveFeedbackTask = null;
+                        applyAnalysisResult(analysis, feedback);
+                    }
+                });
+            } finally {
+                Arrays.fill(password, '\0');
+            }
+        });
     }
 
     private void showInitialNarrative() {
@@ -560,190 +689,134 @@ public class MainFrame extends JFrame {
         feedbackArea.setCaretPosition(0);
     }
 
-    private void applyAnalysisResult(PasswordStrengthChecker.Analysis analysis, String password) {
-        String safePassword = password == null ? "" : password;
+    private void applyAnalysisResult(PasswordStrengthChecker.Analysis analysis, String feedback) {
         strengthBar.setValue(analysis.score());
         strengthBar.setForeground(resolveStrengthColor(analysis.strength()));
         strengthBar.setString("강도: " + translateStrength(analysis.strength())
                 + " (" + analysis.score() + "/100)");
+        feedbackArea.setText(feedback);
+        feedbackArea.setCaretPosition(0);
+    }
 
+    /**
+     * Builds the feedback text for an analysis. Only derived facts about the
+     * password end up in the text, so the caller may clear its buffer as soon
+     * as this returns. Touches no Swing state and may run off the EDT.
+     */
+    private String describeAnalysis(PasswordStrengthChecker.Analysis analysis, CharSequence password,
+            PersonalInfoMatcher matcher) {
+        CharSequence safePassword = password == null ? "" : password;
         StringBuilder sb = new StringBuilder();
         sb.append("분석 요약\n");
         sb.append(" - 길이: ").append(safePassword.length()).append("자\n");
-        sb.append(" - 흔한 비밀번호 여부: ").append(analysis.isCommonPassword() ? "예" : "아니오").append('\n');
+        if (analysis.dictionaryPending()) {
+            sb.append(" - 흔한 비밀번호 여부: 확인 중 (사전을 불러오는 중)\n");
+        } else {
+            sb.append(" - 흔한 비밀번호 여부: ").append(analysis.isCommonPassword() ? "예" : "아니오").append('\n');
+        }
         sb.append(" - 강도 등급: ").append(translateStrength(analysis.strength())).append('\n');
-
-        List<String> suggestions = analysis.suggestions();
-        List<String> similarityWarnings = collectSimilarityWarnings(safePassword);
-        List<String> patternWarnings = collectPatternWarnings(safePassword);
+        sb.append(" - 예상 추측 횟수: 약 10^")
+                .append(Math.round(analysis.guessesLog10() * 10) / 10.0).append("회\n");
+        sb.append(" - 예상 해독 시간: 온라인 공격 ")
+                .append(describeDuration(analysis.crackTimeSeconds(GuessEstimator.AttackScenario.ONLINE_THROTTLED)))
+                .append(", 오프라인 공격 ")
+                .append(describeDuration(analysis.crackTimeSeconds(GuessEstimator.AttackScenario.OFFLINE_SLOW_HASH)))
+                .append('\n');
+
+        List<PasswordStrengthChecker.Suggestion> suggestions = analysis.suggestions();
+        List<PersonalInfoMatcher.Warning> similarityWarnings = matcher.match(safePassword);
+        List<PatternDetector.Kind> patternWarnings = isBlank(safePassword)
+                ? List.of() : PatternDetector.detect(safePassword);
 
         if (suggestions.isEmpty() && similarityWarnings.isEmpty() && patternWarnings.isEmpty()) {
             sb.append("\n아주 좋아요! 이 비밀번호는 상당히 안전해 보입니다.\n");
         } else {
             if (!suggestions.isEmpty()) {
                 sb.append("\n개선 제안:\n");
-                for (String suggestion : suggestions) {
-                    sb.append(" • ").append(suggestion).append('\n');
+                for (PasswordStrengthChecker.Suggestion suggestion : suggestions) {
+                    sb.append(" • ").append(describeSuggestion(suggestion)).append('\n');
                 }
             }
 
             if (!similarityWarnings.isEmpty()) {
                 sb.append("\n개인 정보 기반 경고:\n");
-                for (String warning : similarityWarnings) {
-                    sb.append(" • ").append(warning).append('\n');
+                for (PersonalInfoMatcher.Warning warning : similarityWarnings) {
+                    sb.append(" • ").append(describeWarning(warning)).append('\n');
                 }
             }
 
             if (!patternWarnings.isEmpty()) {
                 sb.append("\n패턴 경고:\n");
-                for (String warning : patternWarnings) {
-                    sb.append(" • ").append(warning).append('\n');
+                for (PatternDetector.Kind warning : patternWarnings) {
+                    sb.append(" • ").append(describeWarning(warning)).append('\n');
                 }
             }
         }
-        feedbackArea.setText(sb.toString());
-        feedbackArea.setCaretPosition(0);
+        return sb.toString();
     }
 
-    private List<String> collectSimilarityWarnings(String password) {
-        List<String> warnings = new ArrayList<>();
-        if (userProfile == null || password == null || password.isBlank()) {
-            return warnings;
-        }
-
-        String lowerPassword = password.toLowerCase();
-
-        if (userProfile.name != null && !userProfile.name.isBlank()) {
-            String[] nameTokens = userProfile.name.toLowerCase().split("\\s+");
-            for (String token : nameTokens) {
-                if (token.length() >= 2 && lowerPassword.contains(token)) {
-                    addUniqueWarning(warnings, "비밀번호에 이름과 유사한 문자열이 포함되어 있습니다.");
-                    break;
-                }
-            }
-            appendPersonalNumberWarning(warnings, userProfile.name, password,
-                    "비밀번호에 이름과 연결된 숫자(%s)가 포함되어 있습니다.");
-        }
-
-        if (userProfile.email != null && !userProfile.email.isBlank()) {
-            String emailLower = userProfile.email.toLowerCase();
-            if (lowerPassword.contains(emailLower)) {
-                addUniqueWarning(warnings, "비밀번호에 이메일 전체가 포함되어 있습니다.");
-            }
-            int atIndex = emailLower.indexOf('@');
-            if (atIndex > 0) {
-                String localPart = emailLower.substring(0, atIndex);
-                if (localPart.length() >= 3 && lowerPassword.contains(localPart)) {
-                    addUniqueWarning(warnings, "비밀번호에 이메일 아이디 부분이 포함되어 있습니다.");
-                }
-                String domainPart = emailLower.substring(atIndex + 1);
-                if (!domainPart.isBlank() && lowerPassword.contains(domainPart)) {
-                    addUniqueWarning(warnings, "비밀번호에 이메일 도메인이 포함되어 있습니다.");
-                }
-            }
-            appendPersonalNumberWarning(warnings, userProfile.email, password,
-                    "비밀번호에 이메일과 관련된 숫자(%s)가 포함되어 있습니다.");
+    private static String describeDuration(double seconds) {
+        if (seconds < 1) {
+            return "즉시";
         }
-
-        if (userProfile.birthDate != null) {
-            String digits = userProfile.birthDate.format(DateTimeFormatter.BASIC_ISO_DATE);
-            if (password.contains(digits)) {
-                addUniqueWarning(warnings, "비밀번호에 생년월일(" + digits + ")이 그대로 포함되어 있습니다.");
-            }
-            String year = String.valueOf(userProfile.birthDate.getYear());
-            if (password.contains(year)) {
-                addUniqueWarning(warnings, "비밀번호에 출생 연도(" + year + ")가 포함되어 있습니다.");
-            }
-            String yearSuffix = year.substring(Math.max(0, year.length() - 2));
-            if (!yearSuffix.equals(year) && password.contains(yearSuffix)) {
-                addUniqueWarning(warnings, "비밀번호에 출생 연도의 말미 숫자(" + yearSuffix + ")가 포함되어 있습니다.");
-            }
-            String monthDay = String.format("%02d%02d", userProfile.birthDate.getMonthValue(),
-                    userProfile.birthDate.getDayOfMonth());
-            if (password.contains(monthDay)) {
-                addUniqueWarning(warnings, "비밀번호에 생일(月日) 조합(" + monthDay + ")이 포함되어 있습니다.");
+        double[] units = {60, 60, 24, 365, 100};
+        String[] names = {"초", "분", "시간", "일", "년"};
+        double value = seconds;
+        for (int i = 0; i < units.length; i++) {
+            if (value < units[i]) {
+                return "약 " + Math.round(value) + names[i];
             }
+            value /= units[i];
         }
-
-        return warnings;
+        return "수 세기 이상";
+    }
+
+    static String describeSuggestion(PasswordStrengthChecker.Suggestion suggestion) {
+        return switch (suggestion) {
+            case LENGTHEN_TO_12 -> "더 강한 비밀번호를 위해 12자 이상으로 늘려 보세요.";
+            case LENGTHEN_TO_8 -> "최소 8자 이상으로 길이를 늘려 주세요.";
+            case ENTER_PASSWORD -> "분석을 시작하려면 비밀번호를 입력해 주세요.";
+            case ADD_LOWERCASE -> "소문자를 포함해 보세요.";
+            case ADD_UPPERCASE -> "대문자를 추가해 주세요.";
+            case ADD_DIGIT -> "숫자를 하나 이상 포함해 주세요.";
+            case ADD_SYMBOL -> "특수문자나 기호를 넣어 주세요.";
+            case AVOID_REPEATS -> "같은 문자를 여러 번 반복하지 않는 것이 좋아요.";
+            case COMMON_PASSWORD -> "이 비밀번호는 흔히 사용되는 목록에 포함되어 있습니다.";
+            case EMBEDDED_COMMON_WORD -> "흔히 사용되는 비밀번호나 단어가 그대로 들어 있습니다. 다른 단어로 바꿔 보세요.";
+        };
     }
 
-    private void appendPersonalNumberWarning(List<String> warnings, String source, String password,
-            String messageTemplate) {
-        if (source == null || password == null) {
-            return;
-        }
-        String digits = source.replaceAll("\\D+", "");
-        if (digits.length() < 2) {
-            return;
-        }
-        int maxLength = Math.min(6, digits.length());
-        for (int length = maxLength; length >= 2; length--) {
-            for (int start = 0; start <= digits.length() - length; start++) {
-                String fragment = digits.substring(start, start + length);
-                if (!fragment.isBlank() && password.contains(fragment)) {
-                    addUniqueWarning(warnings, String.format(messageTemplate, fragment));
-                    return;
-                }
-            }
-        }
+    static String describeWarning(PersonalInfoMatcher.Warning warning) {
+        String detail = warning.detail();
+        return switch (warning.kind()) {
+            case NAME -> "비밀번호에 이름과 유사한 문자열이 포함되어 있습니다.";
+            case NAME_NUMBER -> "비밀번호에 이름과 연결된 숫자(" + detail + ")가 포함되어 있습니다.";
+            case EMAIL -> "비밀번호에 이메일 전체가 포함되어 있습니다.";
+            case EMAIL_LOCAL_PART -> "비밀번호에 이메일 아이디 부분이 포함되어 있습니다.";
+            case EMAIL_DOMAIN -> "비밀번호에 이메일 도메인이 포함되어 있습니다.";
+            case EMAIL_NUMBER -> "비밀번호에 이메일과 관련된 숫자(" + detail + ")가 포함되어 있습니다.";
+            case BIRTH_DATE -> "비밀번호에 생년월일(" + detail + ")이 그대로 포함되어 있습니다.";
+            case BIRTH_YEAR -> "비밀번호에 출생 연도(" + detail + ")가 포함되어 있습니다.";
+            case BIRTH_YEAR_SUFFIX -> "비밀번호에 출생 연도의 말미 숫자(" + detail + ")가 포함되어 있습니다.";
+            case BIRTH_MONTH_DAY -> "비밀번호에 생일(月日) 조합(" + detail + ")이 포함되어 있습니다.";
+        };
     }
 
-    private List<String> collectPatternWarnings(String password) {
-        List<String> warnings = new ArrayList<>();
-        if (password == null || password.isBlank()) {
-            return warnings;
-        }
-
-        if (containsSequentialDigits(password, 3)) {
-            addUniqueWarning(warnings, "연속된 숫자 패턴이 감지되었습니다. 순차적인 숫자는 쉽게 추측될 수 있습니다.");
-        }
-
-        return warnings;
-    }
-
-    private boolean containsSequentialDigits(String password, int minLength) {
-        int count = 1;
-        Integer lastDigit = null;
-        Integer direction = null;
-        for (char ch : password.toCharArray()) {
-            if (Character.isDigit(ch)) {
-                int current = ch - '0';
-                if (lastDigit != null) {
-                    int diff = current - lastDigit;
-                    if (diff == 1 || diff == -1) {
-                        if (direction == null || diff == direction) {
-                            direction = diff;
-                            count++;
-                        } else {
-                            direction = diff;
-                            count = 2;
-                        }
-                    } else {
-                        direction = null;
-                        count = 1;
-                    }
-                } else {
-                    count = 1;
-                }
-                lastDigit = current;
-                if (count >= minLength) {
-                    return true;
-                }
-            } else {
-                lastDigit = null;
-                direction = null;
-                count = 0;
-            }
-        }
-        return false;
+    static String describeWarning(PatternDetector.Kind warning) {
+        return switch (warning) {
+            case SEQUENTIAL_DIGITS -> "연속된 숫자 패턴이 감지되었습니다. 순차적인 숫자는 쉽게 추측될 수 있습니다.";
+            case KEYBOARD_WALK -> "키보드에서 나란히 놓인 키를 이어 누른 패턴(예: qwer, asdf, ㅂㅈㄷㄱ)이 감지되었습니다. 쉽게 추측될 수 있습니다.";
+        };
     }
 
-    private void startAnimatedAnalysis(String password) {
+    private void startAnimatedAnalysis(char[] password) {
         stopAnalysisAnimation();
         stopResetCycle();
+        cancelLiveFeedback();
         defeatAnimationShown = false;
         PasswordStrengthChecker.Analysis analysis = checker.analyze(password);
+        String feedback = describeAnalysis(analysis, CharBuffer.wrap(password), personalInfoMatcher);
+        Arrays.fill(password, '\0');
         final long duration = 10_000L;
         final long startTime = System.currentTimeMillis();
         strengthBar.setForeground(new Color(82, 120, 220));
@@ -775,7 +848,10 @@ public class MainFrame extends JFrame {
                 source.stop();
                 analysisTimer = null;
                 stopSuspenseSound();
-                applyAnalysisResult(analysis, password);
+                applyAnalysisResult(analysis, feedback);
+                if (analysis.dictionaryPending() && dictionary.isReady()) {
+                    rescoreDisplayedPassword();
+                }
                 scheduleResetCycle();
             }
         });
@@ -793,11 +869,7 @@ public class MainFrame extends JFrame {
     }
 
     private void stopSuspenseSound() {
-        if (suspenseClip != null) {
-            suspenseClip.stop();
-            suspenseClip.close();
-            suspenseClip = null;
-        }
+        suspenseAudio.stop();
     }
 
     private void stopResetCycle() {
@@ -823,44 +895,22 @@ public class MainFrame extends JFrame {
         suppressLiveFeedback = true;
         passwordField.setText("");
         suppressLiveFeedback = false;
-        userProfile = null;
+        personalInfoMatcher = PersonalInfoMatcher.none();
         defeatAnimationShown = false;
         showInitialNarrative();
     }
 
     private void playSuspenseSound(long durationMillis) {
-        stopSuspenseSound();
-        try {
-            AudioFormat format = new AudioFormat(44100f, 16, 1, true, false);
-            int totalSamples = (int) (format.getSampleRate() * durationMillis / 1000.0);
-            byte[] data = new byte[totalSamples * 2];
-            double sampleRate = format.getSampleRate();
-            for (int i = 0; i < totalSamples; i++) {
-                double sweep = 180 + 140 * Math.sin(2 * Math.PI * i / (sampleRate / 1.7));
-                double tremolo = 0.4 + 0.6 * Math.sin(2 * Math.PI * i / (sampleRate / 6.0));
-                double envelope = Math.pow(1 - (double) i / totalSamples, 0.4);
-                double sample = Math.sin(2 * Math.PI * sweep * i / sampleRate) * tremolo * envelope;
-                short value = (short) (sample * Short.MAX_VALUE);
-                data[2 * i] = (byte) (value & 0xFF);
-                data[2 * i + 1] = (byte) ((value >> 8) & 0xFF);
-            }
-
-            ByteArrayInputStream bais = new ByteArrayInputStream(data);
-            try (AudioInputStream ais = new AudioInputStream(bais, format, totalSamples)) {
-                Clip clip = AudioSystem.getClip();
-                clip.open(ais);
-                clip.start();
-                suspenseClip = clip;
-            }
-        } catch (LineUnavailableException | IOException ex) {
-            Toolkit.getDefaultToolkit().beep();
-        }
+        suspenseAudio.play(durationMillis);
     }
 
-    private void addUniqueWarning(List<String> warnings, String message) {
-        if (!warnings.contains(message)) {
-            warnings.add(message);
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
         }
+        return true;
     }
 
     private Color resolveStrengthColor(PasswordStrengthChecker.Strength strength) {
@@ -883,41 +933,53 @@ public class MainFrame extends JFrame {
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
-                applyResponsiveScale();
+                // Not restarted: a continuous drag still re-scales once per frame, and the
+                // last event of the drag is always followed by one more pass.
+                if (!resizeCoalescer.isRunning()) {
+                    resizeCoalescer.start();
+                }
             }
         });
     }
 
+    /**
+     * Scales fonts and the illustration to the window width. Nothing is done
+     * while the width stays within the current scale bucket, and only
+     * components whose font actually changes are touched; each of those
+     * revalidates itself, so the frame gets one coalesced layout pass.
+     */
     private void applyResponsiveScale() {
         float scale = Math.max(0.85f, Math.min(1.6f, (float) getWidth() / 920f));
+        int bucket = Math.round(scale * SCALE_BUCKETS_PER_UNIT);
+        if (bucket == appliedScaleBucket) {
+            return;
+        }
+        appliedScaleBucket = bucket;
+        float bucketScale = (float) bucket / SCALE_BUCKETS_PER_UNIT;
+        Map<Font, Font> fonts = scaledFonts.computeIfAbsent(bucket, key -> new HashMap<>());
         for (Map.Entry<JComponent, Font> entry : baseFonts.entrySet()) {
             Font base = entry.getValue();
             Component component = entry.getKey();
-            component.setFont(base.deriveFont(base.getSize2D() * scale));
+            Font scaled = fonts.computeIfAbsent(base, font -> font.deriveFont(font.getSize2D() * bucketScale));
+            if (!scaled.equals(component.getFont())) {
+                component.setFont(scaled);
+            }
         }
-        illustrationPanel.setScaleMultiplier(scale);
-        revalidate();
-        repaint();
+        illustrationPanel.setScaleMultiplier(bucketScale);
     }
 
     private void rememberFont(JComponent component) {
         baseFonts.put(component, component.getFont());
+        // Let the next resize scale the new component even within the current bucket.
+        appliedScaleBucket = -1;
     }
 
-    private static class UserProfile {
-        final String name;
-        final String email;
-        final LocalDate birthDate;
-        final String password;
-
-        UserProfile(String name, String email, LocalDate birthDate, String password) {
-            this.name = name;
-            this.email = email;
-            this.birthDate = birthDate;
-            this.password = password;
-        }
-    }
-
+    /**
+     * Window background. Drawn directly rather than through a
+     * {@link LayerCache}: it always has the window's size, so a cached layer
+     * would allocate a full-window image on every frame of a resize drag,
+     * while a gradient fill and one oval are cheap for Java2D to draw.
+     */
     private static class GradientPanel extends JPanel {
         GradientPanel() {
             setOpaque(false);
@@ -927,15 +989,17 @@ public class MainFrame extends JFrame {
         protected void paintComponent(java.awt.Graphics g) {
             super.paintComponent(g);
             java.awt.Graphics2D g2 = (java.awt.Graphics2D) g.create();
-            int width = getWidth();
-            int height = getHeight();
+            paintBackground(g2, getWidth(), getHeight());
+            g2.dispose();
+        }
+
+        private static void paintBackground(java.awt.Graphics2D g2, int width, int height) {
             GradientPaint gradient = new GradientPaint(0, 0,
                     new Color(18, 32, 60), width, height, new Color(42, 98, 140));
             g2.setPaint(gradient);
             g2.fillRect(0, 0, width, height);
             g2.setPaint(new Color(255, 255, 255, 40));
             g2.fillOval(width / 2, -height / 2, width, height);
-            g2.dispose();
         }
     }
 }
@@ -0,0 +1,388 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * {@link PasswordDictionary} queried in place from a compact binary file that
+ * is memory-mapped with {@link FileChannel#map}. Lookups hash and compare the
+ * candidate directly against the mapped bytes, so heap use stays flat however
+ * many entries the file holds.
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ *   header   magic:int  version:short  flags:short  entries:int  slots:int
+ *            dataLength:long  crc32:long
+ *   slots    slots x int   0 = empty, otherwise (data offset + 1)
+ *   data     entries x (length:ubyte, folded UTF-8 bytes)
+ * </pre>
+ *
+ * <p>The slot table is an open-addressing hash table over
+ * {@link FoldedUtf8#hash}, probed linearly. The checksum covers the slot
+ * table and data sections and is only checked by {@link #verify()}, so that
+ * opening a large file stays instant. Lookups therefore do not trust the
+ * slot table: they probe at most every slot once and treat a reference
+ * outside the data section as a miss, so a damaged file answers
+ * {@code false} instead of looping or throwing.</p>
+ *
+ * <p>Lookups only use absolute {@link ByteBuffer} reads, and the methods that
+ * scan sequentially work on a private duplicate, so one instance can be
+ * queried from many threads without locking.</p>
+ */
+public final class MappedPasswordDictionary implements PasswordDictionary {
+
+    static final int MAGIC = 0x50434458; // "PCDX"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    /** Longest entry, in folded UTF-8 bytes, that fits the one-byte length prefix. */
+    public static final int MAX_ENTRY_BYTES = 255;
+
+    /** Largest slot table whose mapping stays below the 2 GB {@link ByteBuffer} limit. */
+    private static final int MAX_SLOTS = 1 << 28;
+
+    private final ByteBuffer slots;
+    private final ByteBuffer data;
+    private final int slotMask;
+    private final int size;
+    private final long checksum;
+
+    private MappedPasswordDictionary(ByteBuffer slots, ByteBuffer data, int slotCount, int size, long checksum) {
+        this.slots = slots;
+        this.data = data;
+        this.slotMask = slotCount - 1;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Maps a dictionary file produced by {@link #write}. The file channel is
+     * closed before returning; the mapping stays valid until the dictionary
+     * is garbage collected.
+     *
+     * @throws IOException when the file cannot be read or is not a valid dictionary
+     */
+    public static MappedPasswordDictionary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a password dictionary: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            Header parsed = Header.read(header, channel.size(), file.toString());
+            ByteBuffer slots = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) parsed.slotCount * 4);
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_SIZE + (long) parsed.slotCount * 4, parsed.dataLength);
+            return new MappedPasswordDictionary(slots, data, parsed.slotCount, parsed.entries, parsed.checksum);
+        }
+    }
+
+    /**
+     * Reads a dictionary image from a stream into a single off-heap buffer,
+     * for dictionaries that cannot be mapped directly such as resources
+     * packaged inside a jar. The stream is not closed.
+     *
+     * @throws IOException when the stream does not hold a valid dictionary
+     */
+    public static MappedPasswordDictionary read(InputStream in, String name) throws IOException {
+        byte[] headerBytes = in.readNBytes(HEADER_SIZE);
+        if (headerBytes.length < HEADER_SIZE) {
+            throw new IOException("Not a password dictionary: " + name);
+        }
+        ByteBuffer header = ByteBuffer.wrap(headerBytes);
+        long expectedSize = HEADER_SIZE + (long) header.getInt(12) * 4 + header.getLong(16);
+        Header parsed = Header.read(header, expectedSize, name);
+        long bodySize = expectedSize - HEADER_SIZE;
+        if (bodySize > Integer.MAX_VALUE) {
+            throw new IOException("Password dictionary too large to load into memory: " + name);
+        }
+        ByteBuffer body = ByteBuffer.allocateDirect((int) bodySize);
+        ReadableByteChannel channel = Channels.newChannel(in);
+        while (body.hasRemaining()) {
+            if (channel.read(body) < 0) {
+                throw new IOException("Truncated password dictionary: " + name);
+            }
+        }
+        int slotBytes = parsed.slotCount * 4;
+        ByteBuffer slots = body.duplicate().position(0).limit(slotBytes).slice();
+        ByteBuffer data = body.duplicate().position(slotBytes).limit((int) bodySize).slice();
+        return new MappedPasswordDictionary(slots, data, parsed.slotCount, parsed.entries, parsed.checksum);
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        if (password == null || password.length() == 0) {
+            return false;
+        }
+        int encodedLength = FoldedUtf8.length(password);
+        if (encodedLength > MAX_ENTRY_BYTES) {
+            return false;
+        }
+        int slot = FoldedUtf8.hash(password) & slotMask;
+        for (int probe = 0; probe <= slotMask; probe++) {
+            int reference = slots.getInt(slot << 2);
+            int offset = reference - 1;
+            if (reference == 0 || offset < 0 || offset >= data.limit()) {
+                return false;
+            }
+            if ((data.get(offset) & 0xFF) == encodedLength && encodedLength < data.limit() - offset
+                    && FoldedUtf8.matches(password, data, offset + 1, encodedLength)) {
+                return true;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the CRC32 recorded in the file header.
+     */
+    public long checksum() {
+        return checksum;
+    }
+
+    /**
+     * Builds a Bloom filter over every entry with a single sequential scan of
+     * the data section, hashing the stored bytes without decoding them.
+     */
+    public PasswordBloomFilter buildFilter(int bitsPerEntry) {
+        return PasswordBloomFilter.ofEncoded(data.duplicate().clear(), size, bitsPerEntry);
+    }
+
+    /**
+     * Decodes every entry in file order and passes its folded form to
+     * {@code action}. Allocates a string per entry, so it is meant for
+     * building derived indexes rather than for lookups.
+     */
+    public void forEachEntry(Consumer<? super String> action) {
+        ByteBuffer entries = data.duplicate().clear();
+        byte[] buffer = new byte[MAX_ENTRY_BYTES];
+        while (entries.hasRemaining()) {
+            int length = entries.get() & 0xFF;
+            entries.get(buffer, 0, length);
+            action.accept(new String(buffer, 0, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Recomputes the checksum over the whole file and compares it with the
+     * header. Touches every page, so it is meant for tooling rather than for
+     * the startup path.
+     *
+     * @throws IOException when the checksum does not match
+     */
+    public void verify() throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(slots.duplicate().clear());
+        crc.update(data.duplicate().clear());
+        if (crc.getValue() != checksum) {
+            throw new IOException("Password dictionary checksum mismatch");
+        }
+    }
+
+    /**
+     * Writes {@code passwords} to {@code target} in the mapped dictionary
+     * format. Entries are folded and de-duplicated; blank entries and entries
+     * longer than {@link #MAX_ENTRY_BYTES} encoded bytes are skipped.
+     *
+     * @return the number of distinct entries written
+     * @throws IOException when the file cannot be written or the data section
+     *         would exceed the format limits
+     */
+    public static int write(Iterable<? extends CharSequence> passwords, Path target) throws IOException {
+        Builder builder = new Builder();
+        for (CharSequence password : passwords) {
+            builder.add(password);
+        }
+        return builder.writeTo(target);
+    }
+
+    private record Header(int entries, int slotCount, long dataLength, long checksum) {
+
+        static Header read(ByteBuffer header, long fileSize, String file) throws IOException {
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a password dictionary: " + file);
+            }
+            short version = header.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported password dictionary version " + version + ": " + file);
+            }
+            int entries = header.getInt(8);
+            int slotCount = header.getInt(12);
+            long dataLength = header.getLong(16);
+            long checksum = header.getLong(24);
+            // The writer keeps at least one slot empty, and every entry takes at least two data bytes.
+            if (entries < 0 || slotCount <= 0 || slotCount > MAX_SLOTS || Integer.bitCount(slotCount) != 1
+                    || entries >= slotCount || entries * 2L > dataLength
+                    || dataLength < 0 || dataLength > Integer.MAX_VALUE
+                    || HEADER_SIZE + (long) slotCount * 4 + dataLength != fileSize) {
+                throw new IOException("Corrupt password dictionary header: " + file);
+            }
+            return new Header(entries, slotCount, dataLength, checksum);
+        }
+    }
+
+    /**
+     * Accumulates folded entries in a growable byte array, de-duplicating with
+     * a temporary hash table that is rebuilt at the final size on write.
+     */
+    static final class Builder {
+
+        private byte[] data = new byte[1 << 16];
+        private int dataLength;
+        private int[] offsets = new int[1 << 10];
+        private int[] hashes = new int[1 << 10];
+        private int count;
+        private int[] table = new int[1 << 11];
+        private long checksum;
+
+        /**
+         * Adds one raw entry, returning whether it was new.
+         */
+        boolean add(CharSequence raw) throws IOException {
+            if (raw == null) {
+                return false;
+            }
+            CharSequence password = trim(raw);
+            int length = password.length() == 0 ? 0 : FoldedUtf8.length(password);
+            if (length == 0 || length > MAX_ENTRY_BYTES) {
+                return false;
+            }
+            if ((long) dataLength + 1 + length > Integer.MAX_VALUE - 1) {
+                throw new IOException("Password dictionary data exceeds " + Integer.MAX_VALUE + " bytes");
+            }
+            int hash = FoldedUtf8.hash(password);
+            ByteBuffer view = ByteBuffer.wrap(data);
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            int reference;
+            while ((reference = table[slot]) != 0) {
+                int offset = offsets[reference - 1];
+                if (hashes[reference - 1] == hash && (data[offset] & 0xFF) == length
+                        && FoldedUtf8.matches(password, view, offset + 1, length)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            ensureDataCapacity(dataLength + 1 + length);
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                hashes = Arrays.copyOf(hashes, count * 2);
+            }
+            offsets[count] = dataLength;
+            hashes[count] = hash;
+            data[dataLength] = (byte) length;
+            FoldedUtf8.encode(password, data, dataLength + 1);
+            dataLength += 1 + length;
+            table[slot] = ++count;
+            if (count * 2 > table.length) {
+                table = buildTable(table.length * 2);
+            }
+            return true;
+        }
+
+        int writeTo(Path target) throws IOException {
+            // Keep the load factor at or below 0.75 with a power-of-two table.
+            long minimumSlots = Math.max(2, count * 4L / 3 + 1);
+            if (minimumSlots > MAX_SLOTS) {
+                throw new IOException("Password dictionary holds too many entries: " + count);
+            }
+            int slotCount = (int) (Long.highestOneBit(minimumSlots - 1) << 1);
+            int[] slotTable = buildTable(slotCount);
+
+            ByteBuffer slotBytes = ByteBuffer.allocate(slotCount * 4);
+            for (int i = 0; i < slotCount; i++) {
+                int reference = slotTable[i];
+                slotBytes.putInt(reference == 0 ? 0 : offsets[reference - 1] + 1);
+            }
+            slotBytes.flip();
+            ByteBuffer dataBytes = ByteBuffer.wrap(data, 0, dataLength);
+
+            CRC32 crc = new CRC32();
+            crc.update(slotBytes.duplicate());
+            crc.update(dataBytes.duplicate());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                    .putInt(count).putInt(slotCount)
+                    .putLong(dataLength).putLong(crc.getValue())
+                    .flip();
+
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                writeFully(channel, slotBytes);
+                writeFully(channel, dataBytes);
+            }
+            checksum = crc.getValue();
+            return count;
+        }
+
+        /**
+         * Returns the checksum recorded by the last {@link #writeTo(Path)}.
+         */
+        long checksum() {
+            return checksum;
+        }
+
+        /**
+         * Builds a Bloom filter over the entries added so far.
+         */
+        PasswordBloomFilter buildFilter(int bitsPerEntry) {
+            return PasswordBloomFilter.ofEncoded(ByteBuffer.wrap(data, 0, dataLength).slice(), count, bitsPerEntry);
+        }
+
+        private int[] buildTable(int capacity) {
+            int[] rebuilt = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < count; i++) {
+                int slot = hashes[i] & mask;
+                while (rebuilt[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                rebuilt[slot] = i + 1;
+            }
+            return rebuilt;
+        }
+
+        private void ensureDataCapacity(int required) {
+            if (required > data.length) {
+                long grown = Math.max(required, (long) data.length * 2);
+                data = Arrays.copyOf(data, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+            }
+        }
+
+        private static CharSequence trim(CharSequence value) {
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return start == 0 && end == value.length() ? value : value.subSequence(start, end);
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -1,20 +1,150 @@
 package com.mycompany.passcodedemo;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
 import javax.swing.SwingUtilities;
 
 /**
- * Application entry point that launches the PassCode demonstration UI.
+ * Application entry point that launches the PassCode demonstration UI, or one
+ * of the headless modes when invoked with command line options:
+ *
+ * <pre>
+ *   --audit &lt;input&gt; &lt;output&gt; [--threads N] [--unordered] [--dictionary FILE]
+ *           [--format csv|jsonl] [--summary FILE]
+ *   --compile-dictionary &lt;output.pcd&gt; &lt;wordlist&gt;... [--bits N] [--verify]
+ *   --compile-breach-index &lt;output.pcbh&gt; &lt;hashes.txt&gt;
+ *   --compile-sprites &lt;output.pcsf&gt; &lt;frame-directory&gt; [--fps N] [--width N]
+ *   --serve [--host H] [--port N] [--max-concurrent N] [--dictionary FILE]
+ *   --load-test [--url http://host:port] [--requests N] [--concurrency N] [--batch N]
+ * </pre>
  */
 public final class PassCodeDemo {
 
+    private static final String AUDIT_USAGE = "Usage: --audit <input> <output> [--threads N] [--unordered]"
+            + " [--dictionary FILE] [--format csv|jsonl] [--summary FILE]";
+
     private PassCodeDemo() {
         // Utility class
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && "--audit".equals(args[0])) {
+            System.exit(runAudit(args));
+        }
+        if (args.length > 0 && "--compile-dictionary".equals(args[0])) {
+            System.exit(DictionaryCompiler.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && "--compile-breach-index".equals(args[0])) {
+            System.exit(BreachIndex.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && "--compile-sprites".equals(args[0])) {
+            System.exit(SpriteSheet.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && "--serve".equals(args[0])) {
+            System.exit(PasswordStrengthServer.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && "--load-test".equals(args[0])) {
+            System.exit(ServerLoadTester.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SwingUtilities.invokeLater(() -> {
             MainFrame frame = new MainFrame();
             frame.setVisible(true);
         });
     }
+
+    private static int runAudit(String[] args) {
+        if (args.length < 3) {
+            System.err.println(AUDIT_USAGE);
+            return 2;
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean ordered = true;
+        Path dictionary = null;
+        AuditReportWriter.Format format = AuditReportWriter.Format.forFile(Path.of(args[2]));
+        Path summaryFile = null;
+        for (int i = 3; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--threads requires a value");
+                        return 2;
+                    }
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException ex) {
+                        System.err.println("--threads must be an integer: " + args[i]);
+                        System.err.println(AUDIT_USAGE);
+                        return 2;
+                    }
+                }
+                case "--unordered" -> ordered = false;
+                case "--dictionary" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--dictionary requires a value");
+                        return 2;
+                    }
+                    dictionary = Path.of(args[++i]);
+                }
+                case "--format" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--format requires a value");
+                        return 2;
+                    }
+                    switch (args[++i].toLowerCase(Locale.ROOT)) {
+                        case "csv" -> format = AuditReportWriter.Format.CSV;
+                        case "jsonl" -> format = AuditReportWriter.Format.JSONL;
+                        default -> {
+                            System.err.println("Unknown format: " + args[i]);
+                            return 2;
+                        }
+                    }
+                }
+                case "--summary" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--summary requires a value");
+                        return 2;
+                    }
+                    summaryFile = Path.of(args[++i]);
+                }
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    return 2;
+                }
+            }
+        }
+
+        try {
+            AnalysisCache cache = AnalysisCache.fromSystemProperties(0);
+            PasswordStrengthChecker checker = new PasswordStrengthChecker(dictionary == null
+                    ? DictionaryLoader.loadCommonPasswordDictionary()
+                    : DictionaryLoader.openCompactDictionary(dictionary), cache);
+            BatchAuditor auditor = new BatchAuditor(checker, threads, ordered);
+            long started = System.nanoTime();
+            AuditReportWriter.Summary summary = auditor.audit(Path.of(args[1]), Path.of(args[2]), format);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            System.err.printf("Audited %d passwords in %d ms%n", summary.rows(), elapsedMillis);
+            System.err.printf(Locale.ROOT, "Strength: %s, common %.2f%%, mean score %.1f%n",
+                    summary.strengths(), summary.percentCommon(), summary.meanScore());
+            System.err.println("Top failing rules: " + summary.topFailingRules(3));
+            if (summaryFile != null) {
+                Files.writeString(summaryFile, summary.toJson() + System.lineSeparator(), StandardCharsets.UTF_8);
+            }
+            if (cache != null) {
+                AnalysisCache.Stats stats = cache.stats();
+                System.err.printf("Analysis cache: %d hits, %d misses, %d evictions%n",
+                        stats.hits(), stats.misses(), stats.evictions());
+            }
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Audit failed: " + ex.getMessage());
+            return 1;
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid audit options: " + ex.getMessage());
+            return 2;
+        }
+    }
 }
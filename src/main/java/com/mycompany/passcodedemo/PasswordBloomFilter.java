@@ -0,0 +1,197 @@
+package com.mycompany.passcodedemo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Cache-line blocked Bloom filter over case-folded passwords, consulted before
+ * the exact dictionary lookup so that the common negative case is answered
+ * from a single 64-byte block.
+ *
+ * <p>Each key selects one 512-bit block and sets up to seven bits inside it,
+ * all derived from one 64-bit {@link FoldedUtf8#hash64} value. At the default
+ * ten bits per entry the false-positive rate is roughly one percent. The
+ * filter is immutable once built and can be serialised with
+ * {@link #writeTo(OutputStream)} so it loads without rehashing the
+ * dictionary.</p>
+ */
+public final class PasswordBloomFilter {
+
+    /** Bits per entry used when callers do not choose their own. */
+    public static final int DEFAULT_BITS_PER_ENTRY = 10;
+
+    private static final int MAGIC = 0x50434246; // "PCBF"
+    private static final int VERSION = 1;
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int MAX_PROBES = 7;
+
+    private final long[] words;
+    private final int blocks;
+    private final int probes;
+
+    private PasswordBloomFilter(long[] words, int probes) {
+        this.words = words;
+        this.blocks = words.length / WORDS_PER_BLOCK;
+        this.probes = probes;
+    }
+
+    private PasswordBloomFilter(long expectedEntries, int bitsPerEntry) {
+        this(new long[blockCount(expectedEntries, bitsPerEntry) * WORDS_PER_BLOCK], probeCount(bitsPerEntry));
+    }
+
+    /**
+     * Builds a filter containing every non-null entry of {@code passwords}.
+     * Entries are trimmed and folded the same way as the dictionaries do.
+     */
+    public static PasswordBloomFilter of(Collection<? extends CharSequence> passwords, int bitsPerEntry) {
+        PasswordBloomFilter filter = new PasswordBloomFilter(passwords.size(), bitsPerEntry);
+        for (CharSequence password : passwords) {
+            if (password != null) {
+                String trimmed = password.toString().trim();
+                if (!trimmed.isEmpty()) {
+                    filter.insert(FoldedUtf8.hash64(trimmed));
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Builds a filter from entries that are already folded and UTF-8 encoded,
+     * laid out as in {@link MappedPasswordDictionary}'s data section.
+     */
+    static PasswordBloomFilter ofEncoded(ByteBuffer data, int entries, int bitsPerEntry) {
+        PasswordBloomFilter filter = new PasswordBloomFilter(entries, bitsPerEntry);
+        int position = 0;
+        int limit = data.limit();
+        while (position < limit) {
+            int length = data.get(position) & 0xFF;
+            filter.insert(FoldedUtf8.hash64(data, position + 1, length));
+            position += 1 + length;
+        }
+        return filter;
+    }
+
+    /**
+     * Returns {@code false} when {@code password} is definitely not in the
+     * filter, and {@code true} when it may be.
+     */
+    public boolean mightContain(CharSequence password) {
+        long hash = FoldedUtf8.hash64(password);
+        int base = blockOf(hash) * WORDS_PER_BLOCK;
+        long bits = hash * 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < probes; i++) {
+            int bit = (int) (bits >>> (9 * i)) & 511;
+            if ((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the bit array in bytes.
+     */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Serialises the filter. The stream is not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(probes);
+        data.writeInt(words.length);
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        data.write(buffer.array());
+        data.flush();
+    }
+
+    /**
+     * Writes the filter to {@code file}, replacing any existing content.
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     *
+     * @throws IOException when the stream does not hold a valid filter
+     */
+    public static PasswordBloomFilter readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a password Bloom filter");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported password Bloom filter version " + version);
+        }
+        int probes = data.readInt();
+        int wordCount = data.readInt();
+        if (probes < 1 || probes > MAX_PROBES || wordCount <= 0 || wordCount % WORDS_PER_BLOCK != 0
+                || wordCount > Integer.MAX_VALUE / Long.BYTES) {
+            throw new IOException("Corrupt password Bloom filter header");
+        }
+        byte[] bytes = new byte[wordCount * Long.BYTES];
+        data.readFully(bytes);
+        long[] words = new long[wordCount];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        return new PasswordBloomFilter(words, probes);
+    }
+
+    /**
+     * Reads a filter from {@code file}.
+     */
+    public static PasswordBloomFilter read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return readFrom(in);
+        }
+    }
+
+    private void insert(long hash) {
+        int base = blockOf(hash) * WORDS_PER_BLOCK;
+        long bits = hash * 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < probes; i++) {
+            int bit = (int) (bits >>> (9 * i)) & 511;
+            words[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private int blockOf(long hash) {
+        // Maps the high 32 bits onto [0, blocks) without a division.
+        return (int) (((hash >>> 32) * blocks) >>> 32);
+    }
+
+    private static int blockCount(long expectedEntries, int bitsPerEntry) {
+        if (bitsPerEntry < 1) {
+            throw new IllegalArgumentException("bitsPerEntry must be positive: " + bitsPerEntry);
+        }
+        long bits = Math.max(1, expectedEntries) * bitsPerEntry;
+        long blocks = (bits + 511) / 512;
+        if (blocks > Integer.MAX_VALUE / (WORDS_PER_BLOCK * Long.BYTES)) {
+            throw new IllegalArgumentException("Bloom filter would be too large: " + expectedEntries + " entries");
+        }
+        return (int) blocks;
+    }
+
+    private static int probeCount(int bitsPerEntry) {
+        return Math.max(1, Math.min(MAX_PROBES, (int) Math.round(bitsPerEntry * Math.log(2))));
+    }
+}
@@ -0,0 +1,74 @@
+package com.mycompany.passcodedemo;
+
+/**
+ * Case-insensitive set of known passwords that can be queried without
+ * materialising the candidate as a {@link String}.
+ *
+ * <p>Entries and candidates are compared after folding every UTF-16 unit with
+ * {@link Character#toLowerCase(char)}, so lookups never need a lowercased
+ * copy of the password.</p>
+ *
+ * <p>Implementations must answer lookups from any number of threads at once
+ * without external synchronisation. The built-in ones are immutable once
+ * constructed, or, like {@link LivePasswordDictionary}, swap immutable
+ * contents through a volatile reference.</p>
+ */
+public interface PasswordDictionary {
+
+    /**
+     * Returns whether the dictionary contains {@code password}, ignoring case.
+     * Implementations must not retain a reference to the supplied sequence.
+     */
+    boolean contains(CharSequence password);
+
+    /**
+     * Returns the number of distinct entries in the dictionary.
+     */
+    int size();
+
+    /**
+     * Returns whether lookups are answered from the full dictionary. A
+     * dictionary that is still loading reports {@code false} and answers
+     * every lookup negatively until it is ready.
+     */
+    default boolean isReady() {
+        return true;
+    }
+
+    /**
+     * Returns a counter that changes whenever the contents of the dictionary
+     * change, so that results derived from older contents can be told apart.
+     * Immutable dictionaries always return 0.
+     */
+    default long generation() {
+        return 0;
+    }
+
+    /**
+     * Reports dictionary words that occur inside {@code password}, ignoring
+     * case, including the password itself when it is an entry. Only
+     * dictionaries built with a substring index report anything; the default
+     * implementation reports nothing.
+     */
+    default void forEachEmbeddedWord(CharSequence password, EmbeddedWordConsumer consumer) {
+    }
+
+    /**
+     * Returns whether any dictionary word occurs inside {@code password}; see
+     * {@link #forEachEmbeddedWord}.
+     */
+    default boolean containsEmbeddedWord(CharSequence password) {
+        boolean[] found = new boolean[1];
+        forEachEmbeddedWord(password, (start, end) -> found[0] = true);
+        return found[0];
+    }
+
+    /**
+     * Receives the character range {@code [start, end)} of a dictionary word
+     * found inside a password.
+     */
+    @FunctionalInterface
+    interface EmbeddedWordConsumer {
+        void accept(int start, int end);
+    }
+}
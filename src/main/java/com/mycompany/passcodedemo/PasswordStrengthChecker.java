@@ -1,27 +1,77 @@
 package com.mycompany.passcodedemo;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * Provides password strength calculations and human-friendly suggestions.
+ *
+ * <p>Instances are thread-safe and meant to be shared, for example by every
+ * worker of a {@link BatchAuditor} or every request of a server. All fields
+ * are final and refer to immutable or thread-safe objects, lookup tables are
+ * static and filled in during class initialisation, and {@code analyze}
+ * keeps its working state in objects private to the call, so without a
+ * cache concurrent calls neither lock nor write to shared memory. An {@link AnalysisCache} gives
+ * that up: every lookup, hit or miss, takes a stripe's monitor, reorders its
+ * access list and bumps shared counters, so under many threads it can cost
+ * more than it saves.</p>
  */
-public class PasswordStrengthChecker {
+public final class PasswordStrengthChecker {
 
-    private static final Pattern REPEATED_CHARS = Pattern.compile("(.)\\1{2,}");
+    private static final int CLASS_LOWER = 1;
+    private static final int CLASS_UPPER = 1 << 1;
+    private static final int CLASS_DIGIT = 1 << 2;
+    private static final int CLASS_SYMBOL = 1 << 3;
 
-    private final Set<String> commonPasswords;
+    private static final int EMBEDDED_WORD_PENALTY = 15;
 
-    public PasswordStrengthChecker(Set<String> commonPasswords) {
-        this.commonPasswords = new HashSet<>();
-        for (String entry : commonPasswords) {
-            if (entry != null) {
-                this.commonPasswords.add(entry.trim().toLowerCase());
+    /** Character class bits for the ASCII range, so the common case avoids {@link Character} lookups. */
+    private static final byte[] ASCII_CLASSES = new byte[128];
+
+    /** Every possible suggestion combination, indexed by a {@link Suggestion} bit mask. */
+    private static final List<List<Suggestion>> SUGGESTION_LISTS;
+
+    static {
+        for (char c = 0; c < ASCII_CLASSES.length; c++) {
+            ASCII_CLASSES[c] = (byte) classify(c);
+        }
+
+        Suggestion[] values = Suggestion.values();
+        List<List<Suggestion>> lists = new ArrayList<>(1 << values.length);
+        for (int mask = 0; mask < 1 << values.length; mask++) {
+            List<Suggestion> suggestions = new ArrayList<>(values.length);
+            for (Suggestion suggestion : values) {
+                if ((mask & suggestion.bit()) != 0) {
+                    suggestions.add(suggestion);
+                }
             }
+            lists.add(List.copyOf(suggestions));
         }
+        SUGGESTION_LISTS = List.copyOf(lists);
+    }
+
+    private final PasswordDictionary commonPasswords;
+    private final GuessEstimator estimator;
+    private final AnalysisCache cache;
+
+    public PasswordStrengthChecker(Set<String> commonPasswords) {
+        this(InMemoryPasswordDictionary.of(commonPasswords));
+    }
+
+    public PasswordStrengthChecker(PasswordDictionary commonPasswords) {
+        this(commonPasswords, null);
+    }
+
+    /**
+     * Creates a checker that answers repeated passwords from {@code cache};
+     * {@code null} disables caching.
+     */
+    public PasswordStrengthChecker(PasswordDictionary commonPasswords, AnalysisCache cache) {
+        this.commonPasswords = commonPasswords;
+        this.estimator = new GuessEstimator(commonPasswords);
+        this.cache = cache;
     }
 
     /**
@@ -29,62 +79,138 @@ public class PasswordStrengthChecker {
      * suggestions for improvements.
      */
     public Analysis analyze(String password) {
+        return analyze((CharSequence) password);
+    }
+
+    /**
+     * Analyses a password held in a character array. No {@link String} copy
+     * of the password is created and the array is neither retained nor
+     * modified; callers should clear it once they are done with it.
+     */
+    public Analysis analyze(char[] password) {
+        return analyze(password == null ? null : CharBuffer.wrap(password));
+    }
+
+    /**
+     * Analyses a password supplied as any character sequence, including the
+     * common-password lookup, without creating intermediate strings. When the
+     * dictionary has a substring index, a password that is not itself common
+     * but is built around a common word is penalised as well. Both checks
+     * are repeated on the l33t variants of the password, so {@code p@ssw0rd}
+     * counts as common.
+     *
+     * <p>Scoring itself allocates nothing but the result, but the guess
+     * estimate allocates per call: candidate and cover arrays sized to the
+     * password, the l33t enumeration's buffers and matcher, and the
+     * intermediate assessment. They are short-lived and never shared,
+     * which keeps concurrent calls free of shared writes. Per-thread scratch
+     * buffers would save the allocations, but with a virtual thread per
+     * request each thread would allocate its own anyway.</p>
+     */
+    public Analysis analyze(CharSequence password) {
         if (password == null) {
             password = "";
         }
+        if (cache != null) {
+            return cache.get(password, commonPasswords.generation(), this::compute);
+        }
+        return compute(password);
+    }
+
+    private Analysis compute(CharSequence password) {
+        // Read readiness first: a lookup that races with loading may still hit, never miss spuriously.
+        boolean pending = !commonPasswords.isReady();
+        // The estimator already looks the password and its l33t variants up; reuse its findings.
+        GuessEstimator.Assessment assessment = estimator.assess(password);
+        boolean common = assessment.isDictionaryWord();
+        boolean embedded = !common && assessment.containsDictionaryWord();
+        return evaluate(password, common, embedded, pending, assessment.guessesLog10());
+    }
+
+    /**
+     * Scores the password in a single pass over its characters. This pass
+     * allocates only the returned {@link Analysis}: suggestions are a bit
+     * mask of {@link Suggestion} codes.
+     */
+    private Analysis evaluate(CharSequence password, boolean common, boolean embedded, boolean dictionaryPending,
+            double guessesLog10) {
+        int length = password.length();
+        int classes = 0;
+        boolean repeated = false;
+        char previous = 0;
+        int run = 0;
+        int previousPair = -1;
+        int pairRun = 0;
 
-        String normalized = password.toLowerCase();
-        boolean common = commonPasswords.contains(normalized);
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            classes |= c < ASCII_CLASSES.length ? ASCII_CLASSES[c] : classify(c);
+
+            // Mirrors the former "(.)\1{2,}" pattern: three identical characters
+            // in a row, where '.' never matches a line terminator ...
+            if (isLineTerminator(c)) {
+                run = 0;
+            } else if (run > 0 && c == previous) {
+                if (++run >= 3) {
+                    repeated = true;
+                }
+            } else {
+                previous = c;
+                run = 1;
+            }
+
+            // ... or three identical supplementary code points in a row.
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(password.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, password.charAt(i + 1));
+                pairRun = codePoint == previousPair ? pairRun + 1 : 1;
+                if (pairRun >= 3) {
+                    repeated = true;
+                }
+                previousPair = codePoint;
+            } else if (!Character.isLowSurrogate(c) || i == 0 || !Character.isHighSurrogate(password.charAt(i - 1))) {
+                previousPair = -1;
+            }
+        }
 
         int score = 0;
-        List<String> suggestions = new ArrayList<>();
+        int suggestions = 0;
 
-        int length = password.length();
         if (length >= 12) {
             score += 40;
         } else if (length >= 8) {
             score += 20;
-            suggestions.add("더 강한 비밀번호를 위해 12자 이상으로 늘려 보세요.");
+            suggestions |= Suggestion.LENGTHEN_TO_12.bit();
         } else if (length > 0) {
             score += 10;
-            suggestions.add("최소 8자 이상으로 길이를 늘려 주세요.");
+            suggestions |= Suggestion.LENGTHEN_TO_8.bit();
         } else {
-            suggestions.add("분석을 시작하려면 비밀번호를 입력해 주세요.");
+            suggestions |= Suggestion.ENTER_PASSWORD.bit();
         }
 
-        boolean hasLower = password.chars().anyMatch(Character::isLowerCase);
-        boolean hasUpper = password.chars().anyMatch(Character::isUpperCase);
-        boolean hasDigit = password.chars().anyMatch(Character::isDigit);
-        boolean hasSymbol = password.chars().anyMatch(c -> !Character.isLetterOrDigit(c));
-
-        if (hasLower) {
-            score += 15;
-        } else {
-            suggestions.add("소문자를 포함해 보세요.");
+        score += Integer.bitCount(classes) * 15;
+        if ((classes & CLASS_LOWER) == 0) {
+            suggestions |= Suggestion.ADD_LOWERCASE.bit();
         }
-        if (hasUpper) {
-            score += 15;
-        } else {
-            suggestions.add("대문자를 추가해 주세요.");
+        if ((classes & CLASS_UPPER) == 0) {
+            suggestions |= Suggestion.ADD_UPPERCASE.bit();
         }
-        if (hasDigit) {
-            score += 15;
-        } else {
-            suggestions.add("숫자를 하나 이상 포함해 주세요.");
+        if ((classes & CLASS_DIGIT) == 0) {
+            suggestions |= Suggestion.ADD_DIGIT.bit();
         }
-        if (hasSymbol) {
-            score += 15;
-        } else {
-            suggestions.add("특수문자나 기호를 넣어 주세요.");
+        if ((classes & CLASS_SYMBOL) == 0) {
+            suggestions |= Suggestion.ADD_SYMBOL.bit();
         }
 
-        if (REPEATED_CHARS.matcher(password).find()) {
+        if (repeated) {
             score -= 10;
-            suggestions.add("같은 문자를 여러 번 반복하지 않는 것이 좋아요.");
+            suggestions |= Suggestion.AVOID_REPEATS.bit();
         }
-        if (common && !password.isEmpty()) {
+        if (common && length > 0) {
             score = Math.min(score, 20);
-            suggestions.add("이 비밀번호는 흔히 사용되는 목록에 포함되어 있습니다.");
+            suggestions |= Suggestion.COMMON_PASSWORD.bit();
+        } else if (embedded) {
+            score -= EMBEDDED_WORD_PENALTY;
+            suggestions |= Suggestion.EMBEDDED_COMMON_WORD.bit();
         }
 
         score = Math.max(0, Math.min(100, score));
@@ -98,7 +224,49 @@ public class PasswordStrengthChecker {
             strength = Strength.WEAK;
         }
 
-        return new Analysis(strength, score, common, List.copyOf(suggestions));
+        return new Analysis(strength, score, common, embedded, suggestions, dictionaryPending, guessesLog10);
+    }
+
+    private static int classify(char c) {
+        if (Character.isLowerCase(c)) {
+            return CLASS_LOWER;
+        }
+        if (Character.isUpperCase(c)) {
+            return CLASS_UPPER;
+        }
+        if (Character.isDigit(c)) {
+            return CLASS_DIGIT;
+        }
+        return Character.isLetterOrDigit(c) ? 0 : CLASS_SYMBOL;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Improvement suggestions, in the order they are presented. The constant
+     * names are stable codes for reports and the HTTP service; turning them
+     * into text is up to the presentation layer.
+     */
+    public enum Suggestion {
+        LENGTHEN_TO_12,
+        LENGTHEN_TO_8,
+        ENTER_PASSWORD,
+        ADD_LOWERCASE,
+        ADD_UPPERCASE,
+        ADD_DIGIT,
+        ADD_SYMBOL,
+        AVOID_REPEATS,
+        COMMON_PASSWORD,
+        EMBEDDED_COMMON_WORD;
+
+        /**
+         * Returns this suggestion's bit in {@link Analysis#suggestionMask()}.
+         */
+        public int bit() {
+            return 1 << ordinal();
+        }
     }
 
     /**
@@ -111,9 +279,36 @@ public class PasswordStrengthChecker {
     }
 
     /**
-     * Immutable view of a password analysis result.
+     * Immutable view of a password analysis result. {@code suggestionMask}
+     * holds the {@link Suggestion#bit() bits} of the suggestions that apply.
+     * {@code containsCommonWord} is set when the password is not itself common
+     * but contains a dictionary word. {@code dictionaryPending} is set when
+     * the common-password dictionary was still loading, in which case both
+     * flags may be false negatives and the password should be analysed again
+     * once the dictionary is ready. {@code guessesLog10} is the base-10
+     * logarithm of the guess count estimated by {@link GuessEstimator}.
      */
-    public record Analysis(Strength strength, int score, boolean isCommonPassword,
-            List<String> suggestions) {
+    public record Analysis(Strength strength, int score, boolean isCommonPassword, boolean containsCommonWord,
+            int suggestionMask, boolean dictionaryPending, double guessesLog10) {
+
+        /**
+         * Returns the suggestions in presentation order; the list is shared
+         * and immutable.
+         */
+        public List<Suggestion> suggestions() {
+            return SUGGESTION_LISTS.get(suggestionMask);
+        }
+
+        public boolean hasSuggestion(Suggestion suggestion) {
+            return (suggestionMask & suggestion.bit()) != 0;
+        }
+
+        /**
+         * Returns the expected time, in seconds, to guess the password under
+         * {@code scenario}.
+         */
+        public double crackTimeSeconds(GuessEstimator.AttackScenario scenario) {
+            return scenario.seconds(guessesLog10);
+        }
     }
 }
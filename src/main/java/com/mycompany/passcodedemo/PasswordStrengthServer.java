@@ -0,0 +1,432 @@
+package com.mycompany.passcodedemo;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless HTTP/JSON front end for {@link PasswordStrengthChecker} and
+ * {@link PersonalInfoMatcher}, built on the JDK's {@link HttpServer}.
+ *
+ * <p>Every exchange runs on its own virtual thread. At most
+ * {@code maxConcurrent} requests are analysed at once; further requests are
+ * answered immediately with {@code 503} instead of queueing, so overload
+ * shows up as rejections rather than as unbounded latency. Passwords are
+ * neither logged nor kept after the response is written.</p>
+ *
+ * <pre>
+ *   POST /analyze   {"passwords": ["...", ...],
+ *                    "profile": {"name": "...", "email": "...", "birthDate": "YYYY-MM-DD"}}
+ *                   {"password": "..."} is accepted for a single password;
+ *                   the profile and each of its fields are optional.
+ *   GET  /range/XXXXX  SUFFIX:COUNT lines for a five-hex-digit SHA-1 prefix,
+ *                   as the Pwned Passwords range API returns them
+ *   GET  /stats     request counters and p50/p90/p99 latency in microseconds
+ *                   of the analyses that were admitted
+ *   GET  /health    200 once the dictionary is ready, 503 while it loads
+ * </pre>
+ *
+ * <p>The breach fields are only present when a {@link BreachIndex} is
+ * configured through {@value DictionaryLoader#BREACH_INDEX_PROPERTY}:
+ * results then carry {@code breachCount}, and {@code /range} answers
+ * k-anonymity queries so clients need not send the password at all.</p>
+ *
+ * <pre>
+ *   PasswordStrengthServer [--host H] [--port N] [--max-concurrent N] [--dictionary FILE]
+ * </pre>
+ */
+public final class PasswordStrengthServer implements AutoCloseable {
+
+    /** Most passwords accepted in one request. */
+    public static final int MAX_BATCH_SIZE = 1000;
+    /** Largest request body accepted, in bytes. */
+    public static final int MAX_BODY_BYTES = 1 << 20;
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final PasswordDictionary dictionary;
+    private final PasswordStrengthChecker checker;
+    private final AnalysisCache cache;
+    private final BreachIndex breachIndex;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder passwords = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Binds a server to {@code address}; call {@link #start()} to accept
+     * requests. A {@code null} {@code cache} analyses every request afresh.
+     *
+     * @throws IOException when the address cannot be bound
+     */
+    public PasswordStrengthServer(InetSocketAddress address, PasswordDictionary dictionary, AnalysisCache cache,
+            int maxConcurrent) throws IOException {
+        this(address, dictionary, cache, null, maxConcurrent);
+    }
+
+    /**
+     * Binds a server that also reports breach counts from {@code breachIndex},
+     * which may be {@code null}.
+     *
+     * @throws IOException when the address cannot be bound
+     */
+    public PasswordStrengthServer(InetSocketAddress address, PasswordDictionary dictionary, AnalysisCache cache,
+            BreachIndex breachIndex, int maxConcurrent) throws IOException {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        this.dictionary = dictionary;
+        this.cache = cache;
+        this.breachIndex = breachIndex;
+        this.checker = new PasswordStrengthChecker(dictionary, cache);
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/analyze", this::handleAnalyze);
+        server.createContext("/range/", this::handleRange);
+        server.createContext("/stats", this::handleStats);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Parses command line arguments, starts the server and blocks until the
+     * process is terminated. Returns the process exit code on failure.
+     */
+    public static int run(String[] args) {
+        String host = "127.0.0.1";
+        int port = DEFAULT_PORT;
+        int maxConcurrent = Runtime.getRuntime().availableProcessors() * 4;
+        Path dictionaryFile = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--host" -> host = value(args, ++i, "--host");
+                    case "--port" -> port = Integer.parseInt(value(args, ++i, "--port"));
+                    case "--max-concurrent" -> maxConcurrent = Integer.parseInt(value(args, ++i, "--max-concurrent"));
+                    case "--dictionary" -> dictionaryFile = Path.of(value(args, ++i, "--dictionary"));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: --serve [--host H] [--port N] [--max-concurrent N] [--dictionary FILE]");
+            return 2;
+        }
+
+        try {
+            PasswordDictionary dictionary = dictionaryFile == null
+                    ? DictionaryLoader.loadCommonPasswordDictionary()
+                    : DictionaryLoader.openCompactDictionary(dictionaryFile);
+            PasswordStrengthServer server = new PasswordStrengthServer(new InetSocketAddress(host, port), dictionary,
+                    AnalysisCache.fromSystemProperties(0), DictionaryLoader.openConfiguredBreachIndex(), maxConcurrent);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                System.err.println(server.describeStats());
+            }, "server-shutdown"));
+            server.start();
+            System.err.printf("Listening on http://%s:%d (max %d concurrent requests)%n",
+                    host, server.port(), maxConcurrent);
+            Thread.currentThread().join();
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Server failed: " + ex.getMessage());
+            return 1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the bound port, useful when the server was created on port 0.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for in-flight ones and shuts
+     * the request executor down.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns a one-line summary of the request counters and latencies.
+     */
+    public String describeStats() {
+        LatencyRecorder.Snapshot snapshot = latency.snapshot();
+        return String.format(Locale.ROOT,
+                "Requests: %d, passwords: %d, rejected: %d, failed: %d, latency p50 %d us, p99 %d us, max %d us",
+                requests.sum(), passwords.sum(), rejected.sum(), failed.sum(),
+                snapshot.p50Micros(), snapshot.p99Micros(), snapshot.maxMicros());
+    }
+
+    // ---------------------------------------------------------------- handlers
+
+    private void handleAnalyze(HttpExchange exchange) throws IOException {
+        long started = System.nanoTime();
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Use POST");
+                return;
+            }
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Too many concurrent requests");
+                return;
+            }
+            try {
+                requests.increment();
+                String body = readBody(exchange.getRequestBody());
+                if (body == null) {
+                    failed.increment();
+                    sendError(exchange, 413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+                    return;
+                }
+                send(exchange, 200, analyze(body));
+            } catch (IllegalArgumentException ex) {
+                failed.increment();
+                sendError(exchange, 400, ex.getMessage());
+            } catch (RuntimeException ex) {
+                failed.increment();
+                System.err.println("Analysis failed: " + ex);
+                sendError(exchange, 500, "Internal error");
+            } finally {
+                // Only admitted requests count; instant 405s and 503s would drag the percentiles down.
+                latency.record(System.nanoTime() - started);
+                permits.release();
+            }
+        }
+    }
+
+    private void handleRange(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (breachIndex == null) {
+                sendError(exchange, 404, "No breach index configured");
+                return;
+            }
+            String prefix = exchange.getRequestURI().getPath().substring("/range/".length());
+            List<BreachIndex.Suffix> suffixes;
+            try {
+                suffixes = breachIndex.range(prefix);
+            } catch (IllegalArgumentException ex) {
+                sendError(exchange, 400, ex.getMessage());
+                return;
+            }
+            StringBuilder text = new StringBuilder(suffixes.size() * 40);
+            for (BreachIndex.Suffix suffix : suffixes) {
+                text.append(suffix.suffix()).append(':').append(suffix.count()).append("\r\n");
+            }
+            byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            LatencyRecorder.Snapshot snapshot = latency.snapshot();
+            StringBuilder json = new StringBuilder(256);
+            json.append("{\"requests\":").append(requests.sum())
+                    .append(",\"passwords\":").append(passwords.sum())
+                    .append(",\"rejected\":").append(rejected.sum())
+                    .append(",\"failed\":").append(failed.sum())
+                    .append(",\"inFlight\":").append(maxConcurrent - permits.availablePermits())
+                    .append(",\"maxConcurrent\":").append(maxConcurrent)
+                    .append(",\"latencyMicros\":{\"count\":").append(snapshot.count())
+                    .append(",\"mean\":").append(Math.round(snapshot.meanMicros()))
+                    .append(",\"p50\":").append(snapshot.p50Micros())
+                    .append(",\"p90\":").append(snapshot.p90Micros())
+                    .append(",\"p99\":").append(snapshot.p99Micros())
+                    .append(",\"max\":").append(snapshot.maxMicros()).append('}');
+            if (cache != null) {
+                AnalysisCache.Stats stats = cache.stats();
+                json.append(",\"cache\":{\"hits\":").append(stats.hits())
+                        .append(",\"misses\":").append(stats.misses())
+                        .append(",\"evictions\":").append(stats.evictions())
+                        .append(",\"size\":").append(stats.size()).append('}');
+            }
+            send(exchange, 200, json.append('}').toString());
+        }
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            boolean ready = dictionary.isReady();
+            send(exchange, ready ? 200 : 503, ready ? "{\"status\":\"ready\"}" : "{\"status\":\"loading\"}");
+        }
+    }
+
+    // ---------------------------------------------------------------- analysis
+
+    private String analyze(String body) {
+        if (!(Json.parse(body) instanceof Map<?, ?> request)) {
+            throw new IllegalArgumentException("Request body must be a JSON object");
+        }
+        List<?> batch;
+        if (request.get("passwords") instanceof List<?> list) {
+            batch = list;
+        } else if (request.get("password") instanceof String single) {
+            batch = List.of(single);
+        } else {
+            throw new IllegalArgumentException("Expected \"passwords\" array or \"password\" string");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " passwords per request");
+        }
+        PersonalInfoMatcher matcher = PersonalInfoMatcher.compile(profile(request.get("profile")));
+
+        StringBuilder json = new StringBuilder(64 + batch.size() * 256);
+        json.append("{\"results\":[");
+        for (int i = 0; i < batch.size(); i++) {
+            if (!(batch.get(i) instanceof String password)) {
+                throw new IllegalArgumentException("passwords[" + i + "] must be a string");
+            }
+            if (i > 0) {
+                json.append(',');
+            }
+            appendResult(json, password, matcher);
+        }
+        passwords.add(batch.size());
+        return json.append("]}").toString();
+    }
+
+    private void appendResult(StringBuilder json, String password, PersonalInfoMatcher matcher) {
+        PasswordStrengthChecker.Analysis analysis = checker.analyze(password);
+        json.append("{\"strength\":\"").append(analysis.strength().name())
+                .append("\",\"score\":").append(analysis.score())
+                .append(",\"common\":").append(analysis.isCommonPassword())
+                .append(",\"containsCommonWord\":").append(analysis.containsCommonWord())
+                .append(",\"dictionaryPending\":").append(analysis.dictionaryPending())
+                .append(",\"guessesLog10\":").append(String.format(Locale.ROOT, "%.2f", analysis.guessesLog10()));
+        if (breachIndex != null) {
+            json.append(",\"breachCount\":").append(breachIndex.count(password));
+        }
+        json.append(",\"suggestions\":[");
+        List<PasswordStrengthChecker.Suggestion> suggestions = analysis.suggestions();
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(suggestions.get(i).name()).append('"');
+        }
+        json.append("],\"personalInfo\":[");
+        List<PersonalInfoMatcher.Warning> warnings = matcher.match(password);
+        for (int i = 0; i < warnings.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            PersonalInfoMatcher.Warning warning = warnings.get(i);
+            json.append("{\"kind\":\"").append(warning.kind().name()).append("\",\"detail\":");
+            if (warning.detail() == null) {
+                json.append("null");
+            } else {
+                Json.quote(json, warning.detail());
+            }
+            json.append('}');
+        }
+        json.append("],\"patterns\":[");
+        List<PatternDetector.Kind> patterns = PatternDetector.detect(password);
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(patterns.get(i).name()).append('"');
+        }
+        json.append("]}");
+    }
+
+    private static UserProfile profile(Object value) {
+        if (value == null) {
+            return new UserProfile(null, null, null);
+        }
+        if (!(value instanceof Map<?, ?> profile)) {
+            throw new IllegalArgumentException("\"profile\" must be an object");
+        }
+        LocalDate birthDate = null;
+        if (profile.get("birthDate") instanceof String date) {
+            try {
+                birthDate = LocalDate.parse(date);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("\"birthDate\" must be YYYY-MM-DD");
+            }
+        }
+        return new UserProfile(text(profile.get("name")), text(profile.get("email")), birthDate);
+    }
+
+    private static String text(Object value) {
+        return value instanceof String string ? string : null;
+    }
+
+    // ---------------------------------------------------------------- I/O
+
+    /**
+     * Reads the request body as UTF-8, or returns {@code null} when it is
+     * larger than {@link #MAX_BODY_BYTES}.
+     */
+    private static String readBody(InputStream in) throws IOException {
+        byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            return null;
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Json.quote(new StringBuilder("{\"error\":"), message).append('}').toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,135 @@
+package com.mycompany.passcodedemo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects predictable character patterns in a password, independent of who
+ * the user is.
+ */
+public final class PatternDetector {
+
+    /**
+     * Patterns that can be reported.
+     */
+    public enum Kind {
+        SEQUENTIAL_DIGITS,
+        KEYBOARD_WALK
+    }
+
+    /** Shortest ascending or descending digit run that is reported. */
+    public static final int MIN_SEQUENCE_LENGTH = 3;
+
+    /** Shortest run of neighbouring keys in one direction that is reported. */
+    public static final int MIN_WALK_LENGTH = 4;
+
+    /** Every possible result, indexed by a bit mask of {@link Kind} ordinals. */
+    private static final List<List<Kind>> RESULTS;
+
+    static {
+        Kind[] values = Kind.values();
+        List<List<Kind>> results = new ArrayList<>(1 << values.length);
+        for (int mask = 0; mask < 1 << values.length; mask++) {
+            List<Kind> kinds = new ArrayList<>(values.length);
+            for (Kind kind : values) {
+                if ((mask & 1 << kind.ordinal()) != 0) {
+                    kinds.add(kind);
+                }
+            }
+            results.add(List.copyOf(kinds));
+        }
+        RESULTS = List.copyOf(results);
+    }
+
+    private PatternDetector() {
+    }
+
+    /**
+     * Returns the patterns found in {@code password}; the returned list is
+     * shared and immutable.
+     */
+    public static List<Kind> detect(CharSequence password) {
+        if (password == null) {
+            return List.of();
+        }
+        int mask = 0;
+        if (containsSequentialDigits(password, MIN_SEQUENCE_LENGTH)) {
+            mask |= 1 << Kind.SEQUENTIAL_DIGITS.ordinal();
+        }
+        if (containsKeyboardWalk(password, MIN_WALK_LENGTH)) {
+            mask |= 1 << Kind.KEYBOARD_WALK.ordinal();
+        }
+        return RESULTS.get(mask);
+    }
+
+    /**
+     * Returns whether {@code password} contains at least {@code minLength}
+     * characters typed on neighbouring keys in a straight line, such as
+     * {@code qwer}, {@code 1qaz} or {@code ㅂㅈㄷㄱ} on a QWERTY keyboard
+     * with the Korean 2-beolsik layout. Changes of direction end the walk,
+     * so ordinary words such as {@code were} are not reported.
+     */
+    public static boolean containsKeyboardWalk(CharSequence password, int minLength) {
+        KeyboardLayout keyboard = KeyboardLayout.QWERTY_DUBEOLSIK;
+        int count = 0;
+        int direction = -1;
+        int previous = -1;
+        for (int i = 0; i < password.length(); i++) {
+            int code = keyboard.code(password.charAt(i));
+            int step = keyboard.direction(previous, code);
+            if (step < 0) {
+                count = 1;
+            } else if (step == direction || count == 1) {
+                count++;
+            } else {
+                count = 2;
+            }
+            direction = step;
+            previous = code;
+            if (count >= minLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether {@code password} contains at least {@code minLength}
+     * consecutive digits that each differ from the previous one by exactly
+     * one in the same direction, such as {@code 123} or {@code 987}.
+     */
+    public static boolean containsSequentialDigits(CharSequence password, int minLength) {
+        int count = 0;
+        int lastDigit = 0;
+        boolean hasLast = false;
+        int direction = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char ch = password.charAt(i);
+            if (!Character.isDigit(ch)) {
+                hasLast = false;
+                direction = 0;
+                count = 0;
+                continue;
+            }
+            int current = ch - '0';
+            if (!hasLast) {
+                count = 1;
+            } else {
+                int diff = current - lastDigit;
+                if (diff == 1 || diff == -1) {
+                    count = direction == 0 || diff == direction ? count + 1 : 2;
+                    direction = diff;
+                } else {
+                    direction = 0;
+                    count = 1;
+                }
+            }
+            lastDigit = current;
+            hasLast = true;
+            if (count >= minLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
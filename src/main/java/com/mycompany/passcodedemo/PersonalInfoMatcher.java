@@ -0,0 +1,210 @@
+package com.mycompany.passcodedemo;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Detects passwords that reuse parts of a {@link UserProfile}: name tokens,
+ * the e-mail address or its parts, digits taken from either, and birth date
+ * fragments.
+ *
+ * <p>All fragments are derived once in {@link #compile(UserProfile)} and
+ * compiled into an {@link AhoCorasickAutomaton}, so checking a password is a
+ * single linear scan no matter how many fragments the profile yields.
+ * Matching ignores case. Instances are immutable and thread-safe.</p>
+ */
+public final class PersonalInfoMatcher {
+
+    /**
+     * Kinds of personal information a password can contain, in the order
+     * warnings are reported.
+     */
+    public enum Kind {
+        NAME,
+        NAME_NUMBER,
+        EMAIL,
+        EMAIL_LOCAL_PART,
+        EMAIL_DOMAIN,
+        EMAIL_NUMBER,
+        BIRTH_DATE,
+        BIRTH_YEAR,
+        BIRTH_YEAR_SUFFIX,
+        BIRTH_MONTH_DAY
+    }
+
+    /**
+     * A detected reuse of personal information. {@code detail} is the
+     * matched fragment for number and birth date kinds and {@code null}
+     * otherwise.
+     */
+    public record Warning(Kind kind, String detail) {
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    private static final int MAX_NUMBER_FRAGMENT = 6;
+    private static final PersonalInfoMatcher NONE = new PersonalInfoMatcher(null, new Kind[0], new String[0],
+            new int[0]);
+
+    private final AhoCorasickAutomaton automaton;
+    private final Kind[] kinds;
+    private final String[] details;
+    /** Preference among patterns of the same kind; the lowest matched rank is reported. */
+    private final int[] ranks;
+
+    private PersonalInfoMatcher(AhoCorasickAutomaton automaton, Kind[] kinds, String[] details, int[] ranks) {
+        this.automaton = automaton;
+        this.kinds = kinds;
+        this.details = details;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Returns a matcher that never reports anything.
+     */
+    public static PersonalInfoMatcher none() {
+        return NONE;
+    }
+
+    /**
+     * Derives every fragment worth flagging from {@code profile} and compiles
+     * them into a matcher.
+     */
+    public static PersonalInfoMatcher compile(UserProfile profile) {
+        if (profile == null) {
+            return NONE;
+        }
+        Fragments fragments = new Fragments();
+
+        String name = profile.name();
+        if (name != null && !name.isBlank()) {
+            for (String token : WHITESPACE.split(name.toLowerCase())) {
+                if (token.length() >= 2) {
+                    fragments.add(token, Kind.NAME, null, 0);
+                }
+            }
+            fragments.addNumbers(name, Kind.NAME_NUMBER);
+        }
+
+        String email = profile.email();
+        if (email != null && !email.isBlank()) {
+            String emailLower = email.toLowerCase();
+            fragments.add(emailLower, Kind.EMAIL, null, 0);
+            int atIndex = emailLower.indexOf('@');
+            if (atIndex > 0) {
+                String localPart = emailLower.substring(0, atIndex);
+                if (localPart.length() >= 3) {
+                    fragments.add(localPart, Kind.EMAIL_LOCAL_PART, null, 0);
+                }
+                String domainPart = emailLower.substring(atIndex + 1);
+                if (!domainPart.isBlank()) {
+                    fragments.add(domainPart, Kind.EMAIL_DOMAIN, null, 0);
+                }
+            }
+            fragments.addNumbers(email, Kind.EMAIL_NUMBER);
+        }
+
+        LocalDate birthDate = profile.birthDate();
+        if (birthDate != null) {
+            String digits = birthDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+            fragments.add(digits, Kind.BIRTH_DATE, digits, 0);
+            String year = String.valueOf(birthDate.getYear());
+            fragments.add(year, Kind.BIRTH_YEAR, year, 0);
+            String yearSuffix = year.substring(Math.max(0, year.length() - 2));
+            if (!yearSuffix.equals(year)) {
+                fragments.add(yearSuffix, Kind.BIRTH_YEAR_SUFFIX, yearSuffix, 0);
+            }
+            String monthDay = String.format("%02d%02d", birthDate.getMonthValue(), birthDate.getDayOfMonth());
+            fragments.add(monthDay, Kind.BIRTH_MONTH_DAY, monthDay, 0);
+        }
+
+        if (fragments.patterns.isEmpty()) {
+            return NONE;
+        }
+        int count = fragments.patterns.size();
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = fragments.ranks.get(i);
+        }
+        return new PersonalInfoMatcher(AhoCorasickAutomaton.compile(fragments.patterns, true),
+                fragments.kinds.toArray(new Kind[0]), fragments.details.toArray(new String[0]), ranks);
+    }
+
+    /**
+     * Returns the personal information found in {@code password}, at most one
+     * warning per {@link Kind}, ordered by kind. For number kinds the longest
+     * matching digit run is reported, the earliest one on ties.
+     */
+    public List<Warning> match(CharSequence password) {
+        if (automaton == null || password == null || isBlank(password)) {
+            return List.of();
+        }
+        int[] best = new int[KINDS.length];
+        Arrays.fill(best, -1);
+        automaton.forEachMatch(password, (pattern, end) -> {
+            int kind = kinds[pattern].ordinal();
+            if (best[kind] < 0 || ranks[pattern] < ranks[best[kind]]) {
+                best[kind] = pattern;
+            }
+        });
+
+        List<Warning> warnings = new ArrayList<>();
+        for (int pattern : best) {
+            if (pattern >= 0) {
+                warnings.add(new Warning(kinds[pattern], details[pattern]));
+            }
+        }
+        return warnings;
+    }
+
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pattern list under construction, with parallel per-pattern metadata.
+     */
+    private static final class Fragments {
+        final List<String> patterns = new ArrayList<>();
+        final List<Kind> kinds = new ArrayList<>();
+        final List<String> details = new ArrayList<>();
+        final List<Integer> ranks = new ArrayList<>();
+
+        void add(String pattern, Kind kind, String detail, int rank) {
+            patterns.add(pattern);
+            kinds.add(kind);
+            details.add(detail);
+            ranks.add(rank);
+        }
+
+        /**
+         * Adds every run of two to six consecutive digits in {@code source},
+         * ranked longest first and then by position.
+         */
+        void addNumbers(String source, Kind kind) {
+            String digits = NON_DIGITS.matcher(source).replaceAll("");
+            Set<String> seen = new HashSet<>();
+            int rank = 0;
+            for (int length = Math.min(MAX_NUMBER_FRAGMENT, digits.length()); length >= 2; length--) {
+                for (int start = 0; start <= digits.length() - length; start++) {
+                    String fragment = digits.substring(start, start + length);
+                    if (seen.add(fragment)) {
+                        add(fragment, kind, fragment, rank++);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -13,9 +13,12 @@ import javax.swing.JPanel;
 
 /**
  * Decorative illustration panel that renders responsive security themed icons.
+ * The drawing only depends on the panel size and scale multiplier, so it is
+ * kept in a {@link LayerCache} and repaints are a single blit.
  */
 public class SecurityIllustrationPanel extends JPanel {
 
+    private final LayerCache layer = new LayerCache(this::paintIllustration);
     private float scaleMultiplier = 1f;
 
     public SecurityIllustrationPanel() {
@@ -23,18 +26,21 @@ public class SecurityIllustrationPanel extends JPanel {
     }
 
     public void setScaleMultiplier(float scale) {
-        this.scaleMultiplier = Math.max(0.65f, Math.min(scale, 1.6f));
-        repaint();
+        float clamped = Math.max(0.65f, Math.min(scale, 1.6f));
+        if (clamped != scaleMultiplier) {
+            scaleMultiplier = clamped;
+            repaint();
+        }
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g.create();
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        layer.paint(g, getWidth(), getHeight(), scaleMultiplier);
+    }
 
-        int width = getWidth();
-        int height = getHeight();
+    private void paintIllustration(Graphics2D g2, int width, int height) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         GradientPaint background = new GradientPaint(0, 0, new Color(26, 54, 96, 180),
                 width, height, new Color(58, 128, 164, 150));
@@ -54,8 +60,6 @@ public class SecurityIllustrationPanel extends JPanel {
         drawGlow(g2, width * 0.18f, height * 0.18f, baseSize * 0.4f, new Color(140, 220, 255, 120));
         drawGlow(g2, width * 0.72f, height * 0.22f, baseSize * 0.35f, new Color(255, 210, 120, 120));
         drawGlow(g2, width * 0.55f, height * 0.78f, baseSize * 0.28f, new Color(120, 255, 200, 120));
-
-        g2.dispose();
     }
 
     private void drawShield(Graphics2D g2, float centerX, float centerY, float size) {
@@ -0,0 +1,163 @@
+package com.mycompany.passcodedemo;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator for {@link PasswordStrengthServer}. Without
+ * {@code --url} it starts a server on an ephemeral local port first, so a
+ * load test needs nothing but this jar.
+ *
+ * <p>{@code concurrency} virtual threads each send requests back to back
+ * until {@code requests} have been sent; client-side latency is reported as
+ * p50/p90/p99 together with the server's own view from {@code /stats}.</p>
+ *
+ * <pre>
+ *   ServerLoadTester [--url http://host:port] [--requests N] [--concurrency N] [--batch N]
+ * </pre>
+ */
+public final class ServerLoadTester {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!@#$%^&*";
+
+    private ServerLoadTester() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the load test with command line arguments and returns the process
+     * exit code.
+     */
+    public static int run(String[] args) {
+        String url = null;
+        int requests = 10_000;
+        int concurrency = 64;
+        int batch = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--url" -> url = value(args, ++i, "--url");
+                    case "--requests" -> requests = Integer.parseInt(value(args, ++i, "--requests"));
+                    case "--concurrency" -> concurrency = Integer.parseInt(value(args, ++i, "--concurrency"));
+                    case "--batch" -> batch = Integer.parseInt(value(args, ++i, "--batch"));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (requests < 1 || concurrency < 1 || batch < 1 || batch > PasswordStrengthServer.MAX_BATCH_SIZE) {
+                throw new IllegalArgumentException("Counts must be positive and batch at most "
+                        + PasswordStrengthServer.MAX_BATCH_SIZE);
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: --load-test [--url http://host:port] [--requests N] [--concurrency N] [--batch N]");
+            return 2;
+        }
+
+        PasswordStrengthServer local = null;
+        try {
+            if (url == null) {
+                local = new PasswordStrengthServer(new InetSocketAddress("127.0.0.1", 0),
+                        DictionaryLoader.loadCommonPasswordDictionary(), AnalysisCache.fromSystemProperties(0),
+                        Math.max(concurrency, Runtime.getRuntime().availableProcessors()));
+                local.start();
+                url = "http://127.0.0.1:" + local.port();
+            }
+            return drive(url, requests, concurrency, batch);
+        } catch (IOException ex) {
+            System.err.println("Load test failed: " + ex.getMessage());
+            return 1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } finally {
+            if (local != null) {
+                local.close();
+            }
+        }
+    }
+
+    private static int drive(String url, int requests, int concurrency, int batch)
+            throws IOException, InterruptedException {
+        URI analyze = URI.create(url + "/analyze");
+        LatencyRecorder latency = new LatencyRecorder();
+        LongAdder errors = new LongAdder();
+        AtomicInteger remaining = new AtomicInteger(requests);
+        long started = System.nanoTime();
+        // The workers are declared last so that closing waits for them before the client shuts down.
+        try (HttpClient client = HttpClient.newHttpClient();
+                ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < concurrency; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                threads.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        HttpRequest request = HttpRequest.newBuilder(analyze)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body(random, batch)))
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                            }
+                        } catch (IOException ex) {
+                            errors.increment();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latency.record(System.nanoTime() - sent);
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        LatencyRecorder.Snapshot snapshot = latency.snapshot();
+        System.out.printf(Locale.ROOT, "%d requests (%d passwords each) in %.2f s: %.0f req/s, %d errors%n",
+                requests, batch, seconds, requests / seconds, errors.sum());
+        System.out.printf(Locale.ROOT, "Client latency: p50 %d us, p90 %d us, p99 %d us, max %d us%n",
+                snapshot.p50Micros(), snapshot.p90Micros(), snapshot.p99Micros(), snapshot.maxMicros());
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> stats = client.send(HttpRequest.newBuilder(URI.create(url + "/stats")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            System.out.println("Server stats: " + stats.body());
+        }
+        return errors.sum() == 0 ? 0 : 1;
+    }
+
+    private static String body(SplittableRandom random, int batch) {
+        StringBuilder json = new StringBuilder(16 + batch * 20).append("{\"passwords\":[");
+        for (int i = 0; i < batch; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            char[] password = new char[8 + random.nextInt(9)];
+            for (int j = 0; j < password.length; j++) {
+                password[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+            Json.quote(json, new String(password));
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,207 @@
+package com.mycompany.passcodedemo;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+/**
+ * Plays a pre-decoded {@link SpriteSheet} with plain Java2D, so that hosts
+ * without JavaFX media never load it.
+ *
+ * <p>A Swing {@link Timer} inflates the next frame into one reused indexed
+ * image, which is scaled once into a {@link VolatileImage} back buffer; every
+ * repaint in between, for instance while the rest of the window animates, is
+ * a single blit. The back buffer is re-rendered only when it is lost, resized
+ * or moved to an incompatible screen.</p>
+ */
+final class SpriteHackerAnimation extends JComponent implements HackerAnimation {
+
+    private static final String DEFAULT_RESOURCE = "/hacker.pcsf";
+    private static final Color BACKGROUND = new Color(9, 16, 32, 230);
+
+    private final SpriteSheet sheet;
+    private final String unavailableMessage;
+    private final BufferedImage frameImage;
+    private final Timer timer;
+    private VolatileImage backBuffer;
+    private boolean backBufferStale = true;
+    private int frame;
+
+    private SpriteHackerAnimation(SpriteSheet sheet, String unavailableMessage) {
+        this.sheet = sheet;
+        this.unavailableMessage = unavailableMessage;
+        setOpaque(false);
+        if (sheet == null) {
+            frameImage = null;
+            timer = null;
+            return;
+        }
+        frameImage = sheet.createFrameImage();
+        sheet.decode(0, frameImage);
+        timer = new Timer(sheet.frameMillis(), event -> advance());
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Loads the sheet from {@code file}, or from the bundled
+     * {@code hacker.pcsf} resource when {@code file} is {@code null}. A
+     * missing or unreadable sheet yields an animation that shows why; the
+     * resource is only bundled by builds with the {@code compile-sprites}
+     * profile.
+     */
+    static SpriteHackerAnimation load(String file) {
+        try (InputStream in = file != null
+                ? Files.newInputStream(Path.of(file))
+                : SpriteHackerAnimation.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) {
+                return new SpriteHackerAnimation(null, "hacker.pcsf 리소스를 찾을 수 없습니다.\n"
+                        + "mvn -Pcompile-sprites package 로 빌드하세요.");
+            }
+            return new SpriteHackerAnimation(SpriteSheet.read(in), null);
+        } catch (IOException | RuntimeException ex) {
+            return new SpriteHackerAnimation(null, "해커 애니메이션을 재생할 수 없습니다.\n" + ex.getMessage());
+        }
+    }
+
+    @Override
+    public JComponent component() {
+        return this;
+    }
+
+    @Override
+    public void play() {
+        if (timer != null && !timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    @Override
+    public void cueIdle() {
+        if (timer == null) {
+            return;
+        }
+        timer.stop();
+        if (frame != 0) {
+            showFrame(0);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (timer != null) {
+            timer.stop();
+        }
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+        super.removeNotify();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (sheet == null) {
+            paintMessage((Graphics2D) g, width, height);
+            return;
+        }
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (configuration == null) {
+            renderFrame((Graphics2D) g, width, height);
+            return;
+        }
+        do {
+            int status = backBuffer == null || backBuffer.getWidth() != width || backBuffer.getHeight() != height
+                    ? VolatileImage.IMAGE_INCOMPATIBLE : backBuffer.validate(configuration);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (backBuffer != null) {
+                    backBuffer.flush();
+                }
+                backBuffer = configuration.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+                backBufferStale = true;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                backBufferStale = true;
+            }
+            if (backBufferStale) {
+                Graphics2D target = backBuffer.createGraphics();
+                target.setComposite(AlphaComposite.Clear);
+                target.fillRect(0, 0, width, height);
+                target.setComposite(AlphaComposite.SrcOver);
+                renderFrame(target, width, height);
+                target.dispose();
+                backBufferStale = false;
+            }
+            g.drawImage(backBuffer, 0, 0, null);
+        } while (backBuffer.contentsLost());
+    }
+
+    private void advance() {
+        int next = frame + 1;
+        if (next == sheet.frameCount()) {
+            // Like the video, rest on the first frame once the clip has played.
+            timer.stop();
+            next = 0;
+        }
+        showFrame(next);
+    }
+
+    private void showFrame(int index) {
+        frame = index;
+        sheet.decode(index, frameImage);
+        backBufferStale = true;
+        repaint();
+    }
+
+    /**
+     * Draws the current frame scaled to fit, centred on the rounded
+     * background used by the video backend.
+     */
+    private void renderFrame(Graphics2D g, int width, int height) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        RoundRectangle2D bounds = new RoundRectangle2D.Float(0, 0, width, height, 24, 24);
+        g2.setColor(BACKGROUND);
+        g2.fill(bounds);
+        double scale = Math.min((double) width / sheet.width(), (double) height / sheet.height());
+        int drawWidth = (int) Math.round(sheet.width() * scale);
+        int drawHeight = (int) Math.round(sheet.height() * scale);
+        g2.clip(bounds);
+        g2.drawImage(frameImage, (width - drawWidth) / 2, (height - drawHeight) / 2, drawWidth, drawHeight, null);
+        g2.dispose();
+    }
+
+    private void paintMessage(Graphics2D g, int width, int height) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setColor(Color.WHITE);
+        g2.setFont(getFont() != null ? getFont().deriveFont(Font.PLAIN, 16f) : new Font(Font.DIALOG, Font.PLAIN, 16));
+        FontMetrics metrics = g2.getFontMetrics();
+        String[] lines = unavailableMessage.split("\n");
+        int y = (height - lines.length * metrics.getHeight()) / 2 + metrics.getAscent();
+        for (String line : lines) {
+            g2.drawString(line, (width - metrics.stringWidth(line)) / 2, y);
+            y += metrics.getHeight();
+        }
+        g2.dispose();
+    }
+}
@@ -0,0 +1,364 @@
+package com.mycompany.passcodedemo;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.imageio.ImageIO;
+
+/**
+ * Pre-decoded, downscaled frame sequence for the sprite mode of
+ * {@link HackerAnimationPanel}.
+ *
+ * <p>The {@code .pcsf} file holds a header (magic {@code "PCSF"}, version,
+ * width, height, frame duration in milliseconds, frame count), one palette of
+ * at most 256 RGB colours shared by every frame, and then each frame as a
+ * deflated array of palette indices, one byte per pixel. Only the compressed
+ * frames are kept in memory; {@link #decode(int, BufferedImage)} inflates one
+ * frame straight into the raster of an image from {@link #createFrameImage()}.</p>
+ *
+ * <p>Sheets are compiled offline from frames extracted from the clip, e.g.</p>
+ *
+ * <pre>
+ *   ffmpeg -i hacker.mp4 -vf fps=15 frames/%04d.png
+ *   PassCodeDemo --compile-sprites hacker.pcsf frames [--fps 15] [--width 320]
+ * </pre>
+ *
+ * <p>{@code mvn -Pcompile-sprites package} runs both steps and bundles the
+ * resulting {@code hacker.pcsf} as a class path resource.</p>
+ *
+ * <p>A sheet is confined to one thread, in practice the EDT, because decoding
+ * reuses a single {@link Inflater}.</p>
+ */
+final class SpriteSheet {
+
+    private static final int MAGIC = 0x50435346; // "PCSF"
+    private static final int VERSION = 1;
+    private static final int MAX_DIMENSION = 4096;
+    private static final int MAX_FRAMES = 100_000;
+    private static final List<String> IMAGE_SUFFIXES = List.of(".png", ".jpg", ".jpeg", ".bmp", ".gif");
+
+    private final int width;
+    private final int height;
+    private final int frameMillis;
+    private final IndexColorModel colorModel;
+    private final byte[][] frames;
+    private final Inflater inflater = new Inflater();
+
+    private SpriteSheet(int width, int height, int frameMillis, IndexColorModel colorModel, byte[][] frames) {
+        this.width = width;
+        this.height = height;
+        this.frameMillis = frameMillis;
+        this.colorModel = colorModel;
+        this.frames = frames;
+    }
+
+    /**
+     * Reads a sheet from {@code in}, which is left open.
+     *
+     * @throws IOException when the stream cannot be read or is not a sheet
+     */
+    static SpriteSheet read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a sprite sheet");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported sprite sheet version " + version);
+        }
+        int width = data.readInt();
+        int height = data.readInt();
+        int frameMillis = data.readInt();
+        int frameCount = data.readInt();
+        int paletteSize = data.readInt();
+        if (width < 1 || height < 1 || width > MAX_DIMENSION || height > MAX_DIMENSION || frameMillis < 1
+                || frameCount < 1 || frameCount > MAX_FRAMES || paletteSize < 1 || paletteSize > 256) {
+            throw new IOException("Corrupt sprite sheet header");
+        }
+        int[] palette = new int[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            palette[i] = data.readInt();
+        }
+        byte[][] frames = new byte[frameCount][];
+        for (int i = 0; i < frameCount; i++) {
+            int length = data.readInt();
+            if (length < 0 || length > 2 * width * height + 1024) {
+                throw new IOException("Corrupt sprite sheet frame " + i);
+            }
+            frames[i] = data.readNBytes(length);
+            if (frames[i].length != length) {
+                throw new IOException("Truncated sprite sheet");
+            }
+        }
+        return new SpriteSheet(width, height, frameMillis,
+                new IndexColorModel(8, paletteSize, palette, 0, false, -1, DataBuffer.TYPE_BYTE), frames);
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+
+    int frameMillis() {
+        return frameMillis;
+    }
+
+    int frameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Returns an image whose raster {@link #decode} can fill.
+     */
+    BufferedImage createFrameImage() {
+        return new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, colorModel);
+    }
+
+    /**
+     * Inflates {@code frame} into {@code target}, an image from
+     * {@link #createFrameImage()}.
+     *
+     * @throws IllegalStateException when the frame data is corrupt
+     */
+    void decode(int frame, BufferedImage target) {
+        byte[] pixels = ((DataBufferByte) target.getRaster().getDataBuffer()).getData();
+        inflater.reset();
+        inflater.setInput(frames[frame]);
+        try {
+            int filled = 0;
+            while (filled < pixels.length && !inflater.finished()) {
+                int inflated = inflater.inflate(pixels, filled, pixels.length - filled);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                filled += inflated;
+            }
+            if (filled != pixels.length) {
+                throw new IllegalStateException("Sprite frame " + frame + " is truncated");
+            }
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Sprite frame " + frame + " is corrupt", ex);
+        }
+    }
+
+    /**
+     * Compiles the images in {@code frameDirectory}, in file name order, into
+     * a sheet at {@code output}, scaling them to {@code targetWidth} pixels
+     * wide. The palette holds the 256 most frequent colours at 15-bit
+     * precision and every pixel maps to its nearest palette entry.
+     *
+     * @return the number of frames written
+     * @throws IOException when a frame cannot be read or the sheet written
+     */
+    static int compile(Path frameDirectory, Path output, int frameMillis, int targetWidth) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(frameDirectory)) {
+            listing.filter(SpriteSheet::isImage).sorted().forEach(files::add);
+        }
+        if (files.isEmpty()) {
+            throw new IOException("No frame images in " + frameDirectory);
+        }
+
+        // Pass 1: colour histogram of the scaled frames.
+        long[] histogram = new long[1 << 15];
+        int[] size = null;
+        for (Path file : files) {
+            BufferedImage frame = scaled(file, targetWidth, size);
+            size = new int[] {frame.getWidth(), frame.getHeight()};
+            for (int rgb : frame.getRGB(0, 0, size[0], size[1], null, 0, size[0])) {
+                histogram[toRgb15(rgb)]++;
+            }
+        }
+        int[] palette = buildPalette(histogram);
+        byte[] nearest = nearestEntries(palette);
+
+        // Pass 2: index and deflate each frame.
+        Path temporary = Files.createTempFile(output.toAbsolutePath().getParent(), "pcsf", ".tmp");
+        try {
+            byte[] indices = new byte[size[0] * size[1]];
+            byte[] compressed = new byte[indices.length + 1024];
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary)))) {
+                data.writeInt(MAGIC);
+                data.writeInt(VERSION);
+                data.writeInt(size[0]);
+                data.writeInt(size[1]);
+                data.writeInt(frameMillis);
+                data.writeInt(files.size());
+                data.writeInt(palette.length);
+                for (int rgb : palette) {
+                    data.writeInt(rgb);
+                }
+                for (Path file : files) {
+                    BufferedImage frame = scaled(file, targetWidth, size);
+                    int[] rgb = frame.getRGB(0, 0, size[0], size[1], null, 0, size[0]);
+                    for (int i = 0; i < rgb.length; i++) {
+                        indices[i] = nearest[toRgb15(rgb[i])];
+                    }
+                    deflater.reset();
+                    deflater.setInput(indices);
+                    deflater.finish();
+                    int length = 0;
+                    while (!deflater.finished()) {
+                        if (length == compressed.length) {
+                            compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                        }
+                        length += deflater.deflate(compressed, length, compressed.length - length);
+                    }
+                    data.writeInt(length);
+                    data.write(compressed, 0, length);
+                }
+            } finally {
+                deflater.end();
+            }
+            Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return files.size();
+    }
+
+    /**
+     * Runs the sprite compiler with command line arguments and returns the
+     * process exit code.
+     */
+    static int run(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: --compile-sprites <output.pcsf> <frame-directory> [--fps N] [--width N]");
+            return 2;
+        }
+        int fps = 15;
+        int width = 320;
+        try {
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--fps" -> fps = Integer.parseInt(value(args, ++i, "--fps"));
+                    case "--width" -> width = Integer.parseInt(value(args, ++i, "--width"));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (fps < 1 || fps > 1000 || width < 1 || width > MAX_DIMENSION) {
+                throw new IllegalArgumentException("--fps must be 1-1000 and --width 1-" + MAX_DIMENSION);
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            return 2;
+        }
+        try {
+            long started = System.nanoTime();
+            int frames = compile(Path.of(args[1]), Path.of(args[0]), 1000 / fps, width);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            System.err.printf("Compiled %d frames into %s (%d bytes) in %d ms%n", frames, args[0],
+                    Files.size(Path.of(args[0])), elapsedMillis);
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Sprite compilation failed: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    private static boolean isImage(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return Files.isRegularFile(file) && IMAGE_SUFFIXES.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * Reads {@code file} scaled to {@code targetWidth}, or to {@code size}
+     * when the first frame has fixed it.
+     */
+    private static BufferedImage scaled(Path file, int targetWidth, int[] size) throws IOException {
+        BufferedImage source = ImageIO.read(file.toFile());
+        if (source == null) {
+            throw new IOException("Unreadable frame image " + file);
+        }
+        int width = size != null ? size[0] : Math.min(targetWidth, source.getWidth());
+        int height = size != null ? size[1]
+                : Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = result.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.drawImage(source, 0, 0, width, height, null);
+        g2.dispose();
+        return result;
+    }
+
+    private static int toRgb15(int rgb) {
+        return (rgb >> 9 & 0x7C00) | (rgb >> 6 & 0x03E0) | (rgb >> 3 & 0x001F);
+    }
+
+    private static int fromRgb15(int rgb15) {
+        int r = (rgb15 >> 10 & 0x1F) << 3 | 4;
+        int g = (rgb15 >> 5 & 0x1F) << 3 | 4;
+        int b = (rgb15 & 0x1F) << 3 | 4;
+        return r << 16 | g << 8 | b;
+    }
+
+    private static int[] buildPalette(long[] histogram) {
+        Integer[] colours = new Integer[histogram.length];
+        int used = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                colours[used++] = i;
+            }
+        }
+        Arrays.sort(colours, 0, used, (a, b) -> Long.compare(histogram[b], histogram[a]));
+        int[] palette = new int[Math.min(256, used)];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = fromRgb15(colours[i]);
+        }
+        return palette;
+    }
+
+    private static byte[] nearestEntries(int[] palette) {
+        byte[] nearest = new byte[1 << 15];
+        for (int colour = 0; colour < nearest.length; colour++) {
+            int rgb = fromRgb15(colour);
+            int best = 0;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < palette.length; i++) {
+                int dr = (rgb >> 16 & 0xFF) - (palette[i] >> 16 & 0xFF);
+                int dg = (rgb >> 8 & 0xFF) - (palette[i] >> 8 & 0xFF);
+                int db = (rgb & 0xFF) - (palette[i] & 0xFF);
+                int distance = 3 * dr * dr + 4 * dg * dg + 2 * db * db;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            nearest[colour] = (byte) best;
+        }
+        return nearest;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+}
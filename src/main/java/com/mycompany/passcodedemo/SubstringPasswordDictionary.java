@@ -0,0 +1,88 @@
+package com.mycompany.passcodedemo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link PasswordDictionary} that adds a substring index to another
+ * dictionary, so that passwords such as {@code Summer2024!} or
+ * {@code xXpassword99} are recognised as built around a common word.
+ *
+ * <p>Every entry of at least {@link #MIN_WORD_LENGTH} characters is compiled
+ * into an {@link AhoCorasickAutomaton}; one linear pass over a password then
+ * reports all embedded entries. Whole-password lookups go to the wrapped
+ * dictionary unchanged. Instances are immutable and thread-safe.</p>
+ */
+public final class SubstringPasswordDictionary implements PasswordDictionary {
+
+    /** Shorter entries are not indexed; they occur by chance in almost any password. */
+    public static final int MIN_WORD_LENGTH = 4;
+
+    private final PasswordDictionary delegate;
+    private final AhoCorasickAutomaton automaton;
+
+    private SubstringPasswordDictionary(PasswordDictionary delegate, AhoCorasickAutomaton automaton) {
+        this.delegate = delegate;
+        this.automaton = automaton;
+    }
+
+    /**
+     * Indexes {@code words}, normally the entries of {@code delegate}, for
+     * substring matching. Words are trimmed, folded and de-duplicated;
+     * shorter ones than {@link #MIN_WORD_LENGTH} are skipped.
+     */
+    public static SubstringPasswordDictionary of(PasswordDictionary delegate, Iterable<? extends CharSequence> words) {
+        List<String> patterns = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (CharSequence word : words) {
+            String folded = fold(word.toString().trim());
+            if (folded.length() >= MIN_WORD_LENGTH && seen.add(folded)) {
+                patterns.add(folded);
+            }
+        }
+        return new SubstringPasswordDictionary(delegate, AhoCorasickAutomaton.compile(patterns, true));
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        return delegate.contains(password);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isReady() {
+        return delegate.isReady();
+    }
+
+    @Override
+    public long generation() {
+        return delegate.generation();
+    }
+
+    @Override
+    public void forEachEmbeddedWord(CharSequence password, EmbeddedWordConsumer consumer) {
+        if (password == null) {
+            return;
+        }
+        automaton.forEachMatch(password, (pattern, end) -> consumer.accept(end - automaton.patternLength(pattern), end));
+    }
+
+    @Override
+    public boolean containsEmbeddedWord(CharSequence password) {
+        return password != null && automaton.containsAny(password);
+    }
+
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
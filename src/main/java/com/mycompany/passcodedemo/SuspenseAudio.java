@@ -0,0 +1,175 @@
+package com.mycompany.passcodedemo;
+
+import java.awt.Toolkit;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Plays the suspense sweep heard while an analysis is animated.
+ *
+ * <p>The waveform is synthesised in {@value #CHUNK_SAMPLES}-sample chunks on
+ * a single background thread, using a sine lookup table and fixed-point phase
+ * accumulators, and streamed into one {@link SourceDataLine} that is opened
+ * on first use and kept open. {@link #play(long)} and {@link #stop()} only
+ * post a request to that thread, so they are cheap enough to call on the
+ * EDT, and restarting playback reuses the same line and buffer.</p>
+ *
+ * <p>Methods may be called from any thread.</p>
+ */
+final class SuspenseAudio implements AutoCloseable {
+
+    private static final float SAMPLE_RATE = 44_100f;
+    private static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+    private static final int CHUNK_SAMPLES = 512;
+    /** About 100 ms of audio, which bounds how long a stop takes to be heard. */
+    private static final int LINE_BUFFER_BYTES = 4410 * 2;
+
+    private static final int TABLE_BITS = 12;
+    private static final float[] SINE = new float[1 << TABLE_BITS];
+    /** Phase increment per sample for one hertz, in units of 2^-32 turns. */
+    private static final double PHASE_PER_HERTZ = 4294967296.0 / SAMPLE_RATE;
+
+    static {
+        for (int i = 0; i < SINE.length; i++) {
+            SINE[i] = (float) Math.sin(2 * Math.PI * i / SINE.length);
+        }
+    }
+
+    private final Object lock = new Object();
+    /** Bumped by every request so the audio thread can abandon stale playback. */
+    private volatile int generation;
+    private long requestedSamples;
+    private boolean closed;
+    private Thread thread;
+
+    /**
+     * Starts the sweep, fading out over {@code durationMillis}, replacing any
+     * sweep that is still playing.
+     */
+    void play(long durationMillis) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            generation++;
+            requestedSamples = Math.max(1, (long) (SAMPLE_RATE * durationMillis / 1000.0));
+            if (thread == null) {
+                thread = new Thread(this::run, "suspense-audio");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Silences the sweep; the line stays open for the next {@link #play}.
+     */
+    void stop() {
+        synchronized (lock) {
+            generation++;
+            requestedSamples = 0;
+        }
+    }
+
+    /**
+     * Stops playback and releases the audio line.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            generation++;
+            requestedSamples = 0;
+            lock.notifyAll();
+        }
+    }
+
+    private void run() {
+        byte[] chunk = new byte[CHUNK_SAMPLES * 2];
+        SourceDataLine line = null;
+        boolean lineFailed = false;
+        try {
+            while (true) {
+                int request;
+                long totalSamples;
+                synchronized (lock) {
+                    while (!closed && requestedSamples == 0) {
+                        lock.wait();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    request = generation;
+                    totalSamples = requestedSamples;
+                    requestedSamples = 0;
+                }
+                if (line == null && !lineFailed) {
+                    try {
+                        line = AudioSystem.getSourceDataLine(FORMAT);
+                        line.open(FORMAT, LINE_BUFFER_BYTES);
+                    } catch (LineUnavailableException | IllegalArgumentException | SecurityException ex) {
+                        line = null;
+                        lineFailed = true;
+                    }
+                }
+                if (line == null) {
+                    Toolkit.getDefaultToolkit().beep();
+                } else {
+                    render(line, chunk, request, totalSamples);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (line != null) {
+                line.close();
+            }
+        }
+    }
+
+    /**
+     * A sine carrier swept between 40 and 320 Hz at 1.7 Hz, with a 6 Hz
+     * tremolo and an envelope of {@code (1 - t)^0.4}. The envelope is
+     * evaluated once per chunk and interpolated linearly within it.
+     */
+    private void render(SourceDataLine line, byte[] chunk, int request, long totalSamples) {
+        int carrierPhase = 0;
+        int sweepPhase = 0;
+        int tremoloPhase = 0;
+        int sweepStep = (int) (1.7 * PHASE_PER_HERTZ);
+        int tremoloStep = (int) (6.0 * PHASE_PER_HERTZ);
+        int shift = 32 - TABLE_BITS;
+
+        line.start();
+        double envelope = 1.0;
+        for (long done = 0; done < totalSamples; ) {
+            if (generation != request) {
+                line.stop();
+                line.flush();
+                return;
+            }
+            int samples = (int) Math.min(CHUNK_SAMPLES, totalSamples - done);
+            done += samples;
+            double nextEnvelope = Math.pow(1 - (double) done / totalSamples, 0.4);
+            double envelopeStep = (nextEnvelope - envelope) / samples;
+            for (int i = 0; i < samples; i++) {
+                float sweep = 180 + 140 * SINE[sweepPhase >>> shift];
+                float tremolo = 0.4f + 0.6f * SINE[tremoloPhase >>> shift];
+                float sample = SINE[carrierPhase >>> shift] * tremolo * (float) envelope;
+                carrierPhase += (int) (sweep * PHASE_PER_HERTZ);
+                sweepPhase += sweepStep;
+                tremoloPhase += tremoloStep;
+                envelope += envelopeStep;
+                short value = (short) (sample * Short.MAX_VALUE);
+                chunk[2 * i] = (byte) value;
+                chunk[2 * i + 1] = (byte) (value >> 8);
+            }
+            envelope = nextEnvelope;
+            line.write(chunk, 0, samples * 2);
+        }
+        line.drain();
+    }
+}
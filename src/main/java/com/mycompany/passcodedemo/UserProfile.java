@@ -0,0 +1,10 @@
+package com.mycompany.passcodedemo;
+
+import java.time.LocalDate;
+
+/**
+ * Personal details entered at registration, used to warn about passwords
+ * that reuse them. Any component may be {@code null}.
+ */
+public record UserProfile(String name, String email, LocalDate birthDate) {
+}
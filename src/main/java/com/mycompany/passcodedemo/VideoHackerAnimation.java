@@ -0,0 +1,69 @@
+package com.mycompany.passcodedemo;
+
+import javax.swing.JComponent;
+
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Plays {@code hacker.mp4} through JavaFX media inside a {@link JFXPanel},
+ * using the player shared by {@link HackerMediaService}.
+ */
+final class VideoHackerAnimation extends JFXPanel implements HackerAnimation {
+
+    private final HackerMediaService media = HackerMediaService.shared();
+
+    /** Scene root hosting the shared clip; confined to the JavaFX thread. */
+    private StackPane root;
+
+    VideoHackerAnimation() {
+        // Creating the JFXPanel started the toolkit, so the clip can start decoding now.
+        media.preload();
+        Platform.runLater(this::initialiseMediaScene);
+    }
+
+    @Override
+    public JComponent component() {
+        return this;
+    }
+
+    @Override
+    public void play() {
+        media.play();
+    }
+
+    @Override
+    public void cueIdle() {
+        media.cueIdle();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        Platform.runLater(() -> {
+            if (root != null) {
+                media.attach(root);
+            }
+        });
+    }
+
+    @Override
+    public void removeNotify() {
+        // Only the view is released; the shared player stays decoded for the next showing.
+        Platform.runLater(() -> {
+            if (root != null) {
+                media.detach(root);
+            }
+        });
+        super.removeNotify();
+    }
+
+    private void initialiseMediaScene() {
+        root = new StackPane();
+        root.setStyle("-fx-background-color: rgba(9,16,32,0.9); -fx-background-radius: 24;");
+        setScene(new Scene(root));
+        media.attach(root);
+    }
+}